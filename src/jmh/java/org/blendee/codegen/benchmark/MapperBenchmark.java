@@ -0,0 +1,116 @@
+package org.blendee.codegen.benchmark;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.blendee.jdbc.BlendeeManager;
+import org.blendee.util.Blendee;
+import org.blendee.util.BlendeeConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 自動生成される Row を、 Blendee の汎用の変換で生成する場合と、自動生成される Mapper で生成する場合を比較します。<br>
+ * 汎用の変換は、自動生成される Row が検索結果から値を取り込む際と同じく、 ColumnNameDataObjectBuilder と ValueExtractors を使用します。<br>
+ * Mapper は、自動生成される Mapper.map をそのまま使用します。<br>
+ * どちらも Blendee の接続から同じ SQL で取得した検索結果を対象とし、データベースには H2 のインメモリデータベースを使用します。
+ * <pre>
+ * mvn -P benchmark package
+ * java -jar target/benchmarks.jar MapperBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+	private static final String URL = "jdbc:h2:mem:mapper;DB_CLOSE_DELAY=-1";
+
+	private static final String SQL = "SELECT ID, NAME, AMOUNT, CREATED_AT, NOTE FROM PUBLIC.ORDERS";
+
+	@Param({ "10000" })
+	public int rows;
+
+	//Blendee の接続が閉じられてもデータベースが破棄されないよう、保持しておく
+	private Connection connection;
+
+	@Setup(Level.Trial)
+	public void setup() throws SQLException {
+		connection = DriverManager.getConnection(URL);
+		try (var statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE ORDERS (ID BIGINT PRIMARY KEY, NAME VARCHAR(100), AMOUNT DECIMAL(12, 2), CREATED_AT TIMESTAMP, NOTE VARCHAR(200))");
+		}
+
+		try (var statement = connection.prepareStatement("INSERT INTO ORDERS VALUES (?, ?, ?, ?, ?)")) {
+			var now = System.currentTimeMillis();
+			for (var i = 0; i < rows; i++) {
+				statement.setLong(1, i);
+				statement.setString(2, "name" + i);
+				statement.setBigDecimal(3, BigDecimal.valueOf(i, 2));
+				statement.setTimestamp(4, new Timestamp(now + i));
+				statement.setString(5, i % 3 == 0 ? null : "note" + i);
+				statement.addBatch();
+			}
+
+			statement.executeBatch();
+		}
+
+		var init = new HashMap<String, Object>();
+		init.put(BlendeeConstants.JDBC_URL, URL);
+		init.put(BlendeeConstants.SCHEMA_NAMES, new String[] { Orders.SCHEMA });
+
+		Blendee.start(init);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws SQLException {
+		connection.close();
+	}
+
+	@Benchmark
+	public void generic(Blackhole blackhole) throws Exception {
+		Blendee.execute(t -> {
+			try (var statement = BlendeeManager.getConnection().getStatement(SQL, s -> {})) {
+				try (var result = statement.executeQuery()) {
+					while (result.next()) {
+						blackhole.consume(new Orders.Row(result));
+					}
+				}
+			}
+		});
+	}
+
+	@Benchmark
+	public void mapper(Blackhole blackhole) throws Exception {
+		Blendee.execute(t -> {
+			try (var statement = BlendeeManager.getConnection().getStatement(SQL, s -> {})) {
+				try (var result = statement.executeQuery()) {
+					var mapper = new Orders.Mapper();
+					while (result.next()) {
+						blackhole.consume(mapper.map(result, 0));
+					}
+				}
+			}
+		});
+	}
+}
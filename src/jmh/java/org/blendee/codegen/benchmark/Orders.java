@@ -0,0 +1,122 @@
+package org.blendee.codegen.benchmark;
+
+import org.blendee.jdbc.BResultSet;
+import org.blendee.jdbc.ContextManager;
+import org.blendee.jdbc.Result;
+import org.blendee.jdbc.TablePath;
+import org.blendee.orm.ColumnNameDataObjectBuilder;
+import org.blendee.orm.DataObject;
+import org.blendee.sql.Binder;
+import org.blendee.sql.Relationship;
+import org.blendee.sql.RelationshipFactory;
+import org.blendee.sql.ValueExtractorsConfigure;
+import org.blendee.sql.binder.BigDecimalBinder;
+import org.blendee.sql.binder.LongBinder;
+import org.blendee.sql.binder.NullBinder;
+import org.blendee.sql.binder.StringBinder;
+import org.blendee.sql.binder.TimestampBinder;
+
+/**
+ * {@link org.blendee.codegen.TableFacadeGenerator} が H2 の ORDERS テーブルから生成するクラスのうち、 {@link MapperBenchmark} で比較する部分のみを抜き出したものです。<br>
+ * {@link Row} の生成方法と {@link Mapper} の内容は、自動生成されるコードと同一です。
+ */
+public class Orders {
+
+	/**
+	 * スキーマ名
+	 */
+	public static final String SCHEMA = "PUBLIC";
+
+	/**
+	 * テーブル名
+	 */
+	public static final String TABLE = "ORDERS";
+
+	/**
+	 * このクラスのテーブルを指す {@link TablePath}
+	 */
+	public static final TablePath $TABLE = new TablePath(SCHEMA, TABLE);
+
+	/**
+	 * 自動生成される Row のうち、値の取り込みに関わる部分です。
+	 */
+	public static class Row {
+
+		private final Relationship rowRel$ = RelationshipFactory.getInstance().getInstance($TABLE);
+
+		private final DataObject data$;
+
+		/**
+		 * 参照、更新用コンストラクタです。
+		 * @param data 値を持つ {@link DataObject}
+		 */
+		protected Row(DataObject data) {
+			this.data$ = data;
+		}
+
+		/**
+		 * 参照、更新用コンストラクタです。<br>
+		 * aggregate の検索結果からカラム名により値を取り込みます。
+		 * @param result 値を持つ {@link Result}
+		 */
+		protected Row(Result result) {
+			this.data$ = ColumnNameDataObjectBuilder.build(result, rowRel$, ContextManager.get(ValueExtractorsConfigure.class).getValueExtractors());
+		}
+
+		/**
+		 * @return 値を持つ {@link DataObject}
+		 */
+		public DataObject dataObject() {
+			return data$;
+		}
+	}
+
+	/**
+	 * このテーブルの全項目を、型ごとの getter を使用して位置により読み込み、 {@link Row} を生成するクラスです。
+	 */
+	public static class Mapper {
+
+		private final Relationship relationship = RelationshipFactory.getInstance().getInstance($TABLE);
+
+		/**
+		 * 検索結果の現在の行から {@link Row} を生成します。<br>
+		 * 検索結果には、このテーブルの全項目が定義順に並んでいる必要があります。
+		 * @param result 検索結果
+		 * @param offset このテーブルの先頭項目の前にある項目の数
+		 * @return {@link Row}
+		 */
+		public Row map(BResultSet result, int offset) {
+			var data = new DataObject(relationship);
+			fill$(result, offset, data);
+			return new Row(data);
+		}
+
+		private static void fill$(BResultSet result, int offset, DataObject data) {
+			data.setValue("ID", long$(result, offset + 1, -5));
+			data.setValue("NAME", string$(result, offset + 2, 12));
+			data.setValue("AMOUNT", bigDecimal$(result, offset + 3, 3));
+			data.setValue("CREATED_AT", timestamp$(result, offset + 4, 93));
+			data.setValue("NOTE", string$(result, offset + 5, 12));
+		}
+
+		private static Binder long$(BResultSet result, int index, int type) {
+			var value = result.getLong(index);
+			return result.wasNull() ? new NullBinder(type) : new LongBinder(value);
+		}
+
+		private static Binder string$(BResultSet result, int index, int type) {
+			var value = result.getString(index);
+			return value == null ? new NullBinder(type) : new StringBinder(value);
+		}
+
+		private static Binder bigDecimal$(BResultSet result, int index, int type) {
+			var value = result.getBigDecimal(index);
+			return value == null ? new NullBinder(type) : new BigDecimalBinder(value);
+		}
+
+		private static Binder timestamp$(BResultSet result, int index, int type) {
+			var value = result.getTimestamp(index);
+			return value == null ? new NullBinder(type) : new TimestampBinder(value);
+		}
+	}
+}
@@ -97,4 +97,214 @@ public interface CodeFormatter {
 	default String formatTableRelationshipPart(String template, Map<String, String> arguments) {
 		return Formatter.format(template, arguments);
 	}
+
+	/**
+	 * 参照先 Row の一括取得部分のコードを組み立てます。<br>
+	 * @param template テンプレート
+	 * @param arguments 引数
+	 * @return 生成後のコード
+	 */
+	default String formatBatchLoadPart(String template, Map<String, String> arguments) {
+		return Formatter.format(template, arguments);
+	}
+
+	/**
+	 * 検索結果のキャッシュを破棄する契機となるテーブルの登録部分のコードを組み立てます。<br>
+	 * @param template テンプレート
+	 * @param arguments 引数
+	 * @return 生成後のコード
+	 */
+	default String formatQueryCacheDependencyPart(String template, Map<String, String> arguments) {
+		return Formatter.format(template, arguments);
+	}
+
+	/**
+	 * 同時に IdentityScope を開始するテーブルの登録部分のコードを組み立てます。<br>
+	 * @param template テンプレート
+	 * @param arguments 引数
+	 * @return 生成後のコード
+	 */
+	default String formatIdentityScopeDependencyPart(String template, Map<String, String> arguments) {
+		return Formatter.format(template, arguments);
+	}
+
+	/**
+	 * 一意インデックスによる検索部分のコードを組み立てます。<br>
+	 * @param template テンプレート
+	 * @param arguments 引数
+	 * @return 生成後のコード
+	 */
+	default String formatUniqueIndexPart(String template, Map<String, String> arguments) {
+		return Formatter.format(template, arguments);
+	}
+
+	/**
+	 * インデックス項目による一括検索部分のコードを組み立てます。<br>
+	 * @param template テンプレート
+	 * @param arguments 引数
+	 * @return 生成後のコード
+	 */
+	default String formatIndexPart(String template, Map<String, String> arguments) {
+		return Formatter.format(template, arguments);
+	}
+
+	/**
+	 * 検索結果から項目を直接読み込む部分のコードを組み立てます。<br>
+	 * @param template テンプレート
+	 * @param arguments 引数
+	 * @return 生成後のコード
+	 */
+	default String formatMapperPart(String template, Map<String, String> arguments) {
+		return Formatter.format(template, arguments);
+	}
+
+	/**
+	 * 項目の値をプレースホルダに直接設定する部分のコードを組み立てます。<br>
+	 * @param template テンプレート
+	 * @param arguments 引数
+	 * @return 生成後のコード
+	 */
+	default String formatStatementBinderPart(String template, Map<String, String> arguments) {
+		return Formatter.format(template, arguments);
+	}
+
+	/**
+	 * ImmutableRow のフィールドと getter 部分のコードを組み立てます。<br>
+	 * @param template テンプレート
+	 * @param arguments 引数
+	 * @return 生成後のコード
+	 */
+	default String formatImmutableRowPropertyPart(String template, Map<String, String> arguments) {
+		return Formatter.format(template, arguments);
+	}
+
+	/**
+	 * ImmutableRow の値の取り込み部分のコードを組み立てます。<br>
+	 * @param template テンプレート
+	 * @param arguments 引数
+	 * @return 生成後のコード
+	 */
+	default String formatImmutableRowReadPart(String template, Map<String, String> arguments) {
+		return Formatter.format(template, arguments);
+	}
+
+	/**
+	 * ImmutableRow から Row への値の設定部分のコードを組み立てます。<br>
+	 * @param template テンプレート
+	 * @param arguments 引数
+	 * @return 生成後のコード
+	 */
+	default String formatImmutableRowWritePart(String template, Map<String, String> arguments) {
+		return Formatter.format(template, arguments);
+	}
+
+	/**
+	 * Columnar の項目部分のコードを組み立てます。<br>
+	 * @param template テンプレート
+	 * @param arguments 引数
+	 * @return 生成後のコード
+	 */
+	default String formatColumnarPropertyPart(String template, Map<String, String> arguments) {
+		return Formatter.format(template, arguments);
+	}
+
+	/**
+	 * Columnar の項目選択部分のコードを組み立てます。<br>
+	 * @param template テンプレート
+	 * @param arguments 引数
+	 * @return 生成後のコード
+	 */
+	default String formatColumnarCasePart(String template, Map<String, String> arguments) {
+		return Formatter.format(template, arguments);
+	}
+
+	/**
+	 * 一項目のみを検索するメソッド部分のコードを組み立てます。<br>
+	 * @param template テンプレート
+	 * @param arguments 引数
+	 * @return 生成後のコード
+	 */
+	default String formatPluckPart(String template, Map<String, String> arguments) {
+		return Formatter.format(template, arguments);
+	}
+
+	/**
+	 * RowBuffer への値の書き込み部分のコードを組み立てます。<br>
+	 * @param template テンプレート
+	 * @param arguments 引数
+	 * @return 生成後のコード
+	 */
+	default String formatRowBufferWritePart(String template, Map<String, String> arguments) {
+		return Formatter.format(template, arguments);
+	}
+
+	/**
+	 * RowBuffer の View の getter 部分のコードを組み立てます。<br>
+	 * @param template テンプレート
+	 * @param arguments 引数
+	 * @return 生成後のコード
+	 */
+	default String formatRowBufferGetterPart(String template, Map<String, String> arguments) {
+		return Formatter.format(template, arguments);
+	}
+
+	/**
+	 * RowBuffer の View から Row への値の設定部分のコードを組み立てます。<br>
+	 * @param template テンプレート
+	 * @param arguments 引数
+	 * @return 生成後のコード
+	 */
+	default String formatRowBufferToRowPart(String template, Map<String, String> arguments) {
+		return Formatter.format(template, arguments);
+	}
+
+	/**
+	 * RowCodec の変換部分のコードを組み立てます。<br>
+	 * @param template テンプレート
+	 * @param arguments 引数
+	 * @return 生成後のコード
+	 */
+	default String formatCodecEncodePart(String template, Map<String, String> arguments) {
+		return Formatter.format(template, arguments);
+	}
+
+	/**
+	 * RowCodec の復元部分のコードを組み立てます。<br>
+	 * @param template テンプレート
+	 * @param arguments 引数
+	 * @return 生成後のコード
+	 */
+	default String formatCodecDecodePart(String template, Map<String, String> arguments) {
+		return Formatter.format(template, arguments);
+	}
+
+	/**
+	 * CsvWriter の項目の書き込み部分のコードを組み立てます。<br>
+	 * @param template テンプレート
+	 * @param arguments 引数
+	 * @return 生成後のコード
+	 */
+	default String formatCsvWritePart(String template, Map<String, String> arguments) {
+		return Formatter.format(template, arguments);
+	}
+
+	/**
+	 * JsonWriter の項目の書き込み部分のコードを組み立てます。<br>
+	 * @param template テンプレート
+	 * @param arguments 引数
+	 * @return 生成後のコード
+	 */
+	default String formatJsonWritePart(String template, Map<String, String> arguments) {
+		return Formatter.format(template, arguments);
+	}
+
+	/**
+	 * 項目名により型ごとの setter を選択する部分のコードを組み立てます。<br>
+	 * @param template テンプレート
+	 * @param arguments 引数
+	 * @return 生成後のコード
+	 */
+	default String formatBulkSetPart(String template, Map<String, String> arguments) {
+		return Formatter.format(template, arguments);
+	}
 }
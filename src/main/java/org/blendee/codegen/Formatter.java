@@ -56,4 +56,20 @@ public class Formatter {
 		return source.replaceAll("/\\*--\\?--\\*/", "");
 	}
 
+	/**
+	 * テンプレート内の、キー付きのマーカー (&#47;*--?KEY--*&#47;) で囲まれた部分を処理します。
+	 * @param source テンプレート
+	 * @param key マーカーのキー
+	 * @param erase true の場合はマーカーで囲まれた部分を削除し、 false の場合はマーカーのみを削除する
+	 * @return 処理後のテンプレート
+	 */
+	public static String erase(String source, String key, boolean erase) {
+		var marker = "/\\*--\\?" + key + "--\\*/";
+
+		if (erase)
+			return Pattern.compile(marker + ".+?" + marker, Pattern.DOTALL).matcher(source).replaceAll("");
+
+		return source.replaceAll(marker, "");
+	}
+
 }
@@ -0,0 +1,99 @@
+package org.blendee.codegen;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.blendee.jdbc.TablePath;
+
+/**
+ * JDBC のメタデータから、テーブルのインデックス情報を読み込むクラスです。
+ */
+public class IndexMetadata {
+
+	private final DatabaseMetaData metaData;
+
+	/**
+	 * インスタンスを生成します。
+	 * @param metaData 読み込む対象となるデータベースの {@link DatabaseMetaData}
+	 */
+	public IndexMetadata(DatabaseMetaData metaData) {
+		this.metaData = Objects.requireNonNull(metaData);
+	}
+
+	/**
+	 * テーブルのインデックスを返します。<br>
+	 * 式によるインデックス等、項目名を特定できないものは含まれません。
+	 * @param path 対象となるテーブル
+	 * @return インデックス
+	 */
+	public Index[] getIndexes(TablePath path) {
+		var indexes = new LinkedHashMap<String, Index>();
+		var expressions = new HashSet<String>();
+		try (var result = metaData.getIndexInfo(null, path.getSchemaName(), path.getTableName(), false, true)) {
+			while (result.next()) {
+				if (result.getShort("TYPE") == DatabaseMetaData.tableIndexStatistic) continue;
+
+				var name = result.getString("INDEX_NAME");
+				if (name == null) continue;
+
+				var unique = !result.getBoolean("NON_UNIQUE");
+
+				var column = result.getString("COLUMN_NAME");
+				if (column == null) {
+					expressions.add(name);
+					continue;
+				}
+
+				indexes.computeIfAbsent(name, n -> new Index(n, unique)).columns.put(result.getInt("ORDINAL_POSITION"), column);
+			}
+		} catch (SQLException e) {
+			throw new IllegalStateException(e);
+		}
+
+		expressions.forEach(indexes::remove);
+
+		return indexes.values().toArray(new Index[indexes.size()]);
+	}
+
+	/**
+	 * インデックスをあらわすクラスです。
+	 */
+	public static class Index {
+
+		private final String name;
+
+		private final boolean unique;
+
+		private final TreeMap<Integer, String> columns = new TreeMap<>();
+
+		private Index(String name, boolean unique) {
+			this.name = name;
+			this.unique = unique;
+		}
+
+		/**
+		 * @return インデックス名
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return 一意インデックスの場合 true
+		 */
+		public boolean isUnique() {
+			return unique;
+		}
+
+		/**
+		 * @return インデックスを構成する項目名 (インデックス内の順序)
+		 */
+		public String[] getColumnNames() {
+			return columns.values().toArray(new String[columns.size()]);
+		}
+	}
+}
@@ -0,0 +1,737 @@
+package org.blendee.codegen;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.blendee.jdbc.ColumnMetadata;
+import org.blendee.jdbc.CrossReference;
+import org.blendee.jdbc.Metadata;
+import org.blendee.jdbc.PrimaryKeyMetadata;
+import org.blendee.jdbc.StoredIdentifier;
+import org.blendee.jdbc.TableMetadata;
+import org.blendee.jdbc.TablePath;
+import org.blendee.sql.Relationship;
+
+/**
+ * 自動生成時に読み込んだテーブル定義 (項目、主キー、外部キー) 、スキーマ内のテーブル一覧及び識別子の格納形式を保持するレジストリです。<br>
+ * リソースとして保存したものを実行時にクラスパスから読み込み、 {@link RegistryMetadata} として使用することで、データベースのメタデータを検索せずにテーブル定義を取得できます。<br>
+ * ファイルは UTF-8 のタブ区切りテキストで、各行の先頭に T (テーブル) 、 C (項目) 、 P (主キー) 、 F (外部キー) 、 S (スキーマ内のテーブル) のいずれかと、スキーマ名、テーブル名を持ちます。<br>
+ * 識別子の格納形式は、先頭に I を持つ行に保存されます。
+ */
+public class MetadataRegistry {
+
+	/**
+	 * 保存されるファイル名
+	 */
+	public static final String FILE_NAME = "blendee-metadata.tsv";
+
+	private static final String NULL = "\\N";
+
+	private final Map<TablePath, Table> tables = new LinkedHashMap<>();
+
+	private final Map<String, List<TablePath>> schemaTables = new LinkedHashMap<>();
+
+	private StoredIdentifier storedIdentifier;
+
+	/**
+	 * ファイルから読み込みます。<br>
+	 * ファイルが存在しない場合、空のレジストリを返します。
+	 * @param file 対象となるファイル
+	 * @return {@link MetadataRegistry}
+	 */
+	public static MetadataRegistry load(Path file) {
+		if (!Files.exists(file)) return new MetadataRegistry();
+
+		try (var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			return read(reader);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * クラスパスから読み込みます。<br>
+	 * リソースが存在しない場合、空のレジストリを返します。
+	 * @param loader 読み込みに使用する {@link ClassLoader}
+	 * @param rootPackageName 自動生成クラスが属するパッケージの親パッケージ
+	 * @return {@link MetadataRegistry}
+	 */
+	public static MetadataRegistry load(ClassLoader loader, String rootPackageName) {
+		var stream = loader.getResourceAsStream(resourceName(rootPackageName));
+		if (stream == null) return new MetadataRegistry();
+
+		try (var reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+			return read(reader);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * クラスパス上のリソース名を返します。
+	 * @param rootPackageName 自動生成クラスが属するパッケージの親パッケージ
+	 * @return リソース名
+	 */
+	public static String resourceName(String rootPackageName) {
+		return rootPackageName.replace('.', '/') + "/" + FILE_NAME;
+	}
+
+	/**
+	 * 読み込みます。
+	 * @param reader 読み込み元
+	 * @return {@link MetadataRegistry}
+	 * @throws IOException 読み込みに失敗した場合
+	 */
+	public static MetadataRegistry read(Reader reader) throws IOException {
+		var registry = new MetadataRegistry();
+
+		var buffered = new BufferedReader(reader);
+		String line;
+		while ((line = buffered.readLine()) != null) {
+			if (line.isEmpty()) continue;
+
+			var fields = Arrays.stream(line.split("\t", -1)).map(MetadataRegistry::unescape).toArray(String[]::new);
+
+			if (fields[0].equals("I")) {
+				registry.storedIdentifier = StoredIdentifier.valueOf(fields[1]);
+				continue;
+			}
+
+			var path = new TablePath(fields[1], fields[2]);
+
+			switch (fields[0]) {
+			case "S":
+				registry.schemaTables.computeIfAbsent(path.getSchemaName(), schema -> new ArrayList<>()).add(path);
+				break;
+			case "T":
+				registry.tables.put(path, new Table(path, fields[3], fields[4]));
+				break;
+			case "C":
+				registry.table(path).columns.add(
+					new Column(
+						fields[3],
+						Integer.parseInt(fields[4]),
+						fields[5],
+						Integer.parseInt(fields[6]),
+						Boolean.parseBoolean(fields[7]),
+						Integer.parseInt(fields[8]),
+						Boolean.parseBoolean(fields[9]),
+						Integer.parseInt(fields[10]),
+						fields[11],
+						fields[12]));
+				break;
+			case "P":
+				registry.table(path).primaryKey = new PrimaryKey(fields[3], split(fields[4]), Boolean.parseBoolean(fields[5]));
+				break;
+			case "F":
+				registry.table(path).foreignKeys.add(
+					new ForeignKey(
+						fields[3],
+						split(fields[4]),
+						new TablePath(fields[5], fields[6]),
+						split(fields[7]),
+						Boolean.parseBoolean(fields[8])));
+				break;
+			default:
+				throw new IllegalStateException(line);
+			}
+		}
+
+		return registry;
+	}
+
+	/**
+	 * テーブル定義を追加します。<br>
+	 * 既に同じテーブルが存在する場合、置き換えます。<br>
+	 * 対象となるテーブルのスキーマ内のテーブル一覧と識別子の格納形式も、 {@link Metadata} から取得して保持します。
+	 * @param relation 対象となるテーブルをあらわすルートの {@link Relationship}
+	 * @param metadata 読み込み元の {@link Metadata}
+	 */
+	public void put(Relationship relation, Metadata metadata) {
+		var path = relation.getTablePath();
+
+		storedIdentifier = metadata.getStoredIdentifier();
+
+		schemaTables.computeIfAbsent(path.getSchemaName(), schema -> new ArrayList<>(Arrays.asList(metadata.getTables(schema))));
+
+		var tableMetadata = metadata.getTableMetadata(path);
+
+		var table = new Table(path, tableMetadata.getType(), tableMetadata.getRemarks());
+
+		for (var column : relation.getColumns()) {
+			var columnMetadata = column.getColumnMetadata();
+			table.columns.add(
+				new Column(
+					column.getName(),
+					columnMetadata.getType(),
+					columnMetadata.getTypeName(),
+					columnMetadata.getSize(),
+					columnMetadata.hasDecimalDigits(),
+					columnMetadata.getDecimalDigits(),
+					columnMetadata.isNotNull(),
+					columnMetadata.getOrdinalPosition(),
+					columnMetadata.getRemarks(),
+					columnMetadata.getDefaultValue()));
+		}
+
+		var primaryKey = metadata.getPrimaryKeyMetadata(path);
+		if (primaryKey.getColumnNames().length > 0)
+			table.primaryKey = new PrimaryKey(primaryKey.getName(), primaryKey.getColumnNames(), primaryKey.isPseudo());
+
+		for (var child : relation.getRelationships()) {
+			var crossReference = child.getCrossReference();
+			table.foreignKeys.add(
+				new ForeignKey(
+					crossReference.getForeignKeyName(),
+					crossReference.getForeignKeyColumnNames(),
+					child.getTablePath(),
+					crossReference.getPrimaryKeyColumnNames(),
+					crossReference.isPseudo()));
+		}
+
+		tables.put(path, table);
+	}
+
+	/**
+	 * 他のレジストリが持つテーブル定義をすべて追加します。<br>
+	 * 既に同じテーブルが存在する場合、置き換えます。
+	 * @param registry 追加するテーブル定義を持つレジストリ
+	 */
+	public void putAll(MetadataRegistry registry) {
+		tables.putAll(registry.tables);
+		schemaTables.putAll(registry.schemaTables);
+		if (registry.storedIdentifier != null) storedIdentifier = registry.storedIdentifier;
+	}
+
+	/**
+	 * 書き出します。
+	 * @param writer 書き出し先
+	 * @throws IOException 書き出しに失敗した場合
+	 */
+	public void write(Writer writer) throws IOException {
+		if (storedIdentifier != null) writeLine(writer, "I", storedIdentifier.name());
+
+		for (var paths : schemaTables.values()) {
+			for (var path : paths) {
+				writeLine(writer, "S", path.getSchemaName(), path.getTableName());
+			}
+		}
+
+		for (var table : tables.values()) {
+			//スキーマ名が空の場合にも区別できるよう、スキーマ名とテーブル名は別の項目とする
+			var schema = table.path.getSchemaName();
+			var name = table.path.getTableName();
+
+			writeLine(writer, "T", schema, name, table.type, table.remarks);
+
+			for (var column : table.columns) {
+				writeLine(
+					writer,
+					"C",
+					schema,
+					name,
+					column.name,
+					Integer.toString(column.type),
+					column.typeName,
+					Integer.toString(column.size),
+					Boolean.toString(column.hasDecimalDigits),
+					Integer.toString(column.decimalDigits),
+					Boolean.toString(column.notNull),
+					Integer.toString(column.ordinalPosition),
+					column.remarks,
+					column.defaultValue);
+			}
+
+			var primaryKey = table.primaryKey;
+			if (primaryKey != null)
+				writeLine(writer, "P", schema, name, primaryKey.name, String.join(",", primaryKey.columnNames), Boolean.toString(primaryKey.pseudo));
+
+			for (var foreignKey : table.foreignKeys) {
+				writeLine(
+					writer,
+					"F",
+					schema,
+					name,
+					foreignKey.name,
+					String.join(",", foreignKey.columnNames),
+					foreignKey.referencedTable.getSchemaName(),
+					foreignKey.referencedTable.getTableName(),
+					String.join(",", foreignKey.referencedColumnNames),
+					Boolean.toString(foreignKey.pseudo));
+			}
+		}
+	}
+
+	/**
+	 * ファイルに保存します。<br>
+	 * 実行時にクラスパスから読み込むためには、保存先はリソースとしてパッケージングされる場所である必要があります。
+	 * @param file 保存先
+	 */
+	public void save(Path file) {
+		try (var writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			write(writer);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * @return 保持しているすべてのテーブル
+	 */
+	public TablePath[] getTables() {
+		return tables.keySet().toArray(new TablePath[tables.size()]);
+	}
+
+	/**
+	 * @param schemaName 対象となるスキーマ
+	 * @return スキーマ内のすべてのテーブル
+	 */
+	public Optional<TablePath[]> getTables(String schemaName) {
+		return Optional.ofNullable(schemaTables.get(schemaName)).map(paths -> paths.toArray(new TablePath[paths.size()]));
+	}
+
+	/**
+	 * @return 識別子の格納形式
+	 */
+	public Optional<StoredIdentifier> getStoredIdentifier() {
+		return Optional.ofNullable(storedIdentifier);
+	}
+
+	/**
+	 * @param path 対象となるテーブル
+	 * @return テーブル定義
+	 */
+	public Optional<Table> getTable(TablePath path) {
+		return Optional.ofNullable(tables.get(path));
+	}
+
+	/**
+	 * 指定されたテーブルを参照する外部キーを返します。
+	 * @param path 参照されるテーブル
+	 * @return 外部キーを持つテーブルと、その外部キー
+	 */
+	public Map<TablePath, List<ForeignKey>> getReferencingForeignKeys(TablePath path) {
+		var result = new LinkedHashMap<TablePath, List<ForeignKey>>();
+		tables.values().forEach(table -> {
+			var foreignKeys = table.foreignKeys.stream().filter(f -> f.referencedTable.equals(path)).collect(Collectors.toList());
+			if (foreignKeys.size() > 0) result.put(table.path, foreignKeys);
+		});
+
+		return result;
+	}
+
+	private Table table(TablePath path) {
+		var table = tables.get(path);
+		if (table == null) throw new IllegalStateException("table definition not found: " + path);
+
+		return table;
+	}
+
+	private static void writeLine(Writer writer, String... fields) throws IOException {
+		writer.write(Arrays.stream(fields).map(MetadataRegistry::escape).collect(Collectors.joining("\t")));
+		writer.write("\n");
+	}
+
+	private static String[] split(String columnNames) {
+		return columnNames.split(",");
+	}
+
+	private static String escape(String value) {
+		if (value == null) return NULL;
+
+		return value
+			.replace("\\", "\\\\")
+			.replace("\t", "\\t")
+			.replace("\n", "\\n")
+			.replace("\r", "\\r");
+	}
+
+	private static String unescape(String value) {
+		if (value.equals(NULL)) return null;
+
+		var builder = new StringBuilder(value.length());
+		for (var i = 0; i < value.length(); i++) {
+			var c = value.charAt(i);
+			if (c != '\\' || i == value.length() - 1) {
+				builder.append(c);
+				continue;
+			}
+
+			var next = value.charAt(++i);
+			switch (next) {
+			case 't':
+				builder.append('\t');
+				break;
+			case 'n':
+				builder.append('\n');
+				break;
+			case 'r':
+				builder.append('\r');
+				break;
+			default:
+				builder.append(next);
+			}
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * テーブル定義です。
+	 */
+	public static class Table {
+
+		private final TablePath path;
+
+		private final String type;
+
+		private final String remarks;
+
+		private final List<Column> columns = new ArrayList<>();
+
+		private final List<ForeignKey> foreignKeys = new ArrayList<>();
+
+		private PrimaryKey primaryKey;
+
+		private Table(TablePath path, String type, String remarks) {
+			this.path = path;
+			this.type = type;
+			this.remarks = remarks;
+		}
+
+		/**
+		 * @return テーブル
+		 */
+		public TablePath getPath() {
+			return path;
+		}
+
+		/**
+		 * @return テーブルの型
+		 */
+		public String getType() {
+			return type;
+		}
+
+		/**
+		 * @return テーブルのコメント
+		 */
+		public String getRemarks() {
+			return remarks;
+		}
+
+		/**
+		 * @return 項目定義
+		 */
+		public List<Column> getColumns() {
+			return List.copyOf(columns);
+		}
+
+		/**
+		 * @return 主キー定義
+		 */
+		public Optional<PrimaryKey> getPrimaryKey() {
+			return Optional.ofNullable(primaryKey);
+		}
+
+		/**
+		 * @return このテーブルが持つ外部キー定義
+		 */
+		public List<ForeignKey> getForeignKeys() {
+			return List.copyOf(foreignKeys);
+		}
+
+		/**
+		 * @return {@link TableMetadata}
+		 */
+		public TableMetadata toTableMetadata() {
+			return new TableMetadata() {
+
+				@Override
+				public String getName() {
+					return path.getTableName();
+				}
+
+				@Override
+				public String getType() {
+					return type;
+				}
+
+				@Override
+				public String getRemarks() {
+					return remarks;
+				}
+			};
+		}
+	}
+
+	/**
+	 * 項目定義です。
+	 */
+	public static class Column implements ColumnMetadata {
+
+		private final String name;
+
+		private final int type;
+
+		private final String typeName;
+
+		private final int size;
+
+		private final boolean hasDecimalDigits;
+
+		private final int decimalDigits;
+
+		private final boolean notNull;
+
+		private final int ordinalPosition;
+
+		private final String remarks;
+
+		private final String defaultValue;
+
+		private Column(
+			String name,
+			int type,
+			String typeName,
+			int size,
+			boolean hasDecimalDigits,
+			int decimalDigits,
+			boolean notNull,
+			int ordinalPosition,
+			String remarks,
+			String defaultValue) {
+			this.name = name;
+			this.type = type;
+			this.typeName = typeName;
+			this.size = size;
+			this.hasDecimalDigits = hasDecimalDigits;
+			this.decimalDigits = decimalDigits;
+			this.notNull = notNull;
+			this.ordinalPosition = ordinalPosition;
+			this.remarks = remarks;
+			this.defaultValue = defaultValue;
+		}
+
+		/**
+		 * @return 項目名
+		 */
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return {@link java.sql.Types} の型
+		 */
+		@Override
+		public int getType() {
+			return type;
+		}
+
+		/**
+		 * @return データベース固有の型名
+		 */
+		@Override
+		public String getTypeName() {
+			return typeName;
+		}
+
+		/**
+		 * @return サイズ
+		 */
+		@Override
+		public int getSize() {
+			return size;
+		}
+
+		/**
+		 * @return 小数点以下の桁数を持つ場合 true
+		 */
+		@Override
+		public boolean hasDecimalDigits() {
+			return hasDecimalDigits;
+		}
+
+		/**
+		 * @return 小数点以下の桁数
+		 */
+		@Override
+		public int getDecimalDigits() {
+			return decimalDigits;
+		}
+
+		/**
+		 * @return NOT NULL 制約を持つ場合 true
+		 */
+		@Override
+		public boolean isNotNull() {
+			return notNull;
+		}
+
+		/**
+		 * @return テーブル内の位置
+		 */
+		@Override
+		public int getOrdinalPosition() {
+			return ordinalPosition;
+		}
+
+		/**
+		 * @return 項目のコメント
+		 */
+		@Override
+		public String getRemarks() {
+			return remarks;
+		}
+
+		/**
+		 * @return デフォルト値
+		 */
+		@Override
+		public String getDefaultValue() {
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * 主キー定義です。
+	 */
+	public static class PrimaryKey implements PrimaryKeyMetadata {
+
+		/**
+		 * 主キーを持たないテーブルの主キー定義
+		 */
+		public static final PrimaryKey EMPTY = new PrimaryKey(null, new String[0], false);
+
+		private final String name;
+
+		private final String[] columnNames;
+
+		private final boolean pseudo;
+
+		private PrimaryKey(String name, String[] columnNames, boolean pseudo) {
+			this.name = name;
+			this.columnNames = columnNames.clone();
+			this.pseudo = pseudo;
+		}
+
+		/**
+		 * @return 主キー名
+		 */
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return 主キーを構成する項目名
+		 */
+		@Override
+		public String[] getColumnNames() {
+			return columnNames.clone();
+		}
+
+		/**
+		 * @return 疑似主キーの場合 true
+		 */
+		@Override
+		public boolean isPseudo() {
+			return pseudo;
+		}
+	}
+
+	/**
+	 * 外部キー定義です。
+	 */
+	public static class ForeignKey {
+
+		private final String name;
+
+		private final String[] columnNames;
+
+		private final TablePath referencedTable;
+
+		private final String[] referencedColumnNames;
+
+		private final boolean pseudo;
+
+		private ForeignKey(
+			String name,
+			String[] columnNames,
+			TablePath referencedTable,
+			String[] referencedColumnNames,
+			boolean pseudo) {
+			this.name = name;
+			this.columnNames = columnNames.clone();
+			this.referencedTable = referencedTable;
+			this.referencedColumnNames = referencedColumnNames.clone();
+			this.pseudo = pseudo;
+		}
+
+		/**
+		 * @return 外部キー名
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return 外部キーを構成する項目名
+		 */
+		public String[] getColumnNames() {
+			return columnNames.clone();
+		}
+
+		/**
+		 * @return 参照先テーブル
+		 */
+		public TablePath getReferencedTable() {
+			return referencedTable;
+		}
+
+		/**
+		 * @return 参照先の項目名
+		 */
+		public String[] getReferencedColumnNames() {
+			return referencedColumnNames.clone();
+		}
+
+		/**
+		 * @return 疑似外部キーの場合 true
+		 */
+		public boolean isPseudo() {
+			return pseudo;
+		}
+
+		/**
+		 * @param path この外部キーを持つテーブル
+		 * @param referencedPrimaryKeyName 参照先テーブルの主キー名
+		 * @return {@link CrossReference}
+		 */
+		public CrossReference toCrossReference(TablePath path, String referencedPrimaryKeyName) {
+			return new CrossReference(
+				referencedPrimaryKeyName,
+				name,
+				referencedTable,
+				path,
+				referencedColumnNames,
+				columnNames,
+				pseudo);
+		}
+	}
+}
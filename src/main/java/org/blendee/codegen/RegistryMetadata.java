@@ -0,0 +1,104 @@
+package org.blendee.codegen;
+
+import java.util.Objects;
+
+import org.blendee.jdbc.ColumnMetadata;
+import org.blendee.jdbc.CrossReference;
+import org.blendee.jdbc.Metadata;
+import org.blendee.jdbc.PrimaryKeyMetadata;
+import org.blendee.jdbc.StoredIdentifier;
+import org.blendee.jdbc.TableMetadata;
+import org.blendee.jdbc.TablePath;
+
+/**
+ * {@link MetadataRegistry} が保持するテーブル定義を返す {@link Metadata} です。<br>
+ * レジストリに存在するテーブルの定義 (テーブル、項目、主キー、外部キー及びその項目の対応) 、スキーマ内のテーブル一覧及び識別子の格納形式は、データベースのメタデータを検索せずに返します。<br>
+ * あるテーブルを参照しているテーブルとしては、レジストリに存在するテーブルのみを返します。<br>
+ * レジストリに存在しないものだけを、元となる {@link Metadata} から取得します。
+ */
+public class RegistryMetadata implements Metadata {
+
+	private final MetadataRegistry registry;
+
+	private final Metadata delegate;
+
+	/**
+	 * インスタンスを生成します。
+	 * @param registry テーブル定義を保持する {@link MetadataRegistry}
+	 * @param delegate レジストリに存在しない定義を取得するための {@link Metadata}
+	 */
+	public RegistryMetadata(MetadataRegistry registry, Metadata delegate) {
+		this.registry = Objects.requireNonNull(registry);
+		this.delegate = Objects.requireNonNull(delegate);
+	}
+
+	/**
+	 * クラスパスから {@link MetadataRegistry} を読み込み、インスタンスを生成します。
+	 * @param loader 読み込みに使用する {@link ClassLoader}
+	 * @param rootPackageName 自動生成クラスが属するパッケージの親パッケージ
+	 * @param delegate レジストリに存在しない定義を取得するための {@link Metadata}
+	 * @return {@link RegistryMetadata}
+	 */
+	public static RegistryMetadata load(ClassLoader loader, String rootPackageName, Metadata delegate) {
+		return new RegistryMetadata(MetadataRegistry.load(loader, rootPackageName), delegate);
+	}
+
+	@Override
+	public TablePath[] getTables(String schemaName) {
+		return registry.getTables(schemaName).orElseGet(() -> delegate.getTables(schemaName));
+	}
+
+	@Override
+	public TableMetadata getTableMetadata(TablePath path) {
+		return registry.getTable(path).map(MetadataRegistry.Table::toTableMetadata).orElseGet(() -> delegate.getTableMetadata(path));
+	}
+
+	@Override
+	public ColumnMetadata[] getColumnMetadatas(TablePath path) {
+		return registry.getTable(path)
+			.map(table -> table.getColumns().toArray(new ColumnMetadata[0]))
+			.orElseGet(() -> delegate.getColumnMetadatas(path));
+	}
+
+	@Override
+	public PrimaryKeyMetadata getPrimaryKeyMetadata(TablePath path) {
+		var table = registry.getTable(path);
+		if (table.isEmpty()) return delegate.getPrimaryKeyMetadata(path);
+
+		return table.get().getPrimaryKey().map(PrimaryKeyMetadata.class::cast).orElse(MetadataRegistry.PrimaryKey.EMPTY);
+	}
+
+	@Override
+	public TablePath[] getResourcesOfImportedKey(TablePath path) {
+		return registry.getTable(path)
+			.map(table -> table.getForeignKeys().stream().map(MetadataRegistry.ForeignKey::getReferencedTable).distinct().toArray(TablePath[]::new))
+			.orElseGet(() -> delegate.getResourcesOfImportedKey(path));
+	}
+
+	@Override
+	public TablePath[] getResourcesOfExportedKey(TablePath path) {
+		if (registry.getTable(path).isEmpty()) return delegate.getResourcesOfExportedKey(path);
+
+		return registry.getReferencingForeignKeys(path).keySet().toArray(new TablePath[0]);
+	}
+
+	@Override
+	public CrossReference[] getCrossReferences(TablePath exported, TablePath imported) {
+		var table = registry.getTable(imported);
+		if (table.isEmpty()) return delegate.getCrossReferences(exported, imported);
+
+		var primaryKeyName = registry.getTable(exported).flatMap(MetadataRegistry.Table::getPrimaryKey).map(PrimaryKeyMetadata::getName).orElse(null);
+
+		return table.get()
+			.getForeignKeys()
+			.stream()
+			.filter(foreignKey -> foreignKey.getReferencedTable().equals(exported))
+			.map(foreignKey -> foreignKey.toCrossReference(imported, primaryKeyName))
+			.toArray(CrossReference[]::new);
+	}
+
+	@Override
+	public StoredIdentifier getStoredIdentifier() {
+		return registry.getStoredIdentifier().orElseGet(delegate::getStoredIdentifier);
+	}
+}
@@ -5,18 +5,27 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.math.BigDecimal;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.logging.Level;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import javax.lang.model.SourceVersion;
 
@@ -26,6 +35,7 @@ import org.blendee.assist.annotation.ForeignKey;
 import org.blendee.assist.annotation.PrimaryKey;
 import org.blendee.internal.U;
 import org.blendee.jdbc.BlendeeManager;
+import org.blendee.jdbc.CrossReference;
 import org.blendee.jdbc.Metadata;
 import org.blendee.jdbc.TableMetadata;
 import org.blendee.jdbc.TablePath;
@@ -62,6 +72,66 @@ public class TableFacadeGenerator {
 
 	private static final String tableRelationshipPartTemplate;
 
+	private static final String batchLoadPartTemplate;
+
+	private static final String queryCacheDependencyPartTemplate;
+
+	private static final String identityScopeDependencyPartTemplate;
+
+	private static final String uniqueIndexPartTemplate;
+
+	private static final String indexPartTemplate;
+
+	private static final String mapperPartTemplate;
+
+	private static final String statementBinderPartTemplate;
+
+	private static final String immutableRowPropertyPartTemplate;
+
+	private static final String immutableRowReadPartTemplate;
+
+	private static final String immutableRowWritePartTemplate;
+
+	private static final String columnarPropertyPartTemplate;
+
+	private static final String columnarCasePartTemplate;
+
+	private static final String pluckPartTemplate;
+
+	private static final String rowBufferWritePartTemplate;
+
+	private static final String rowBufferGetterPartTemplate;
+
+	private static final String rowBufferToRowPartTemplate;
+
+	private static final String codecEncodePartTemplate;
+
+	private static final String codecDecodePartTemplate;
+
+	private static final String csvWritePartTemplate;
+
+	private static final String jsonWritePartTemplate;
+
+	private static final String bulkSetPartTemplate;
+
+	private static final Map<Class<?>, Class<?>> wrapperToPrimitiveMap = new HashMap<>();
+
+	private static final Map<Class<?>, String> readMethodMap = new HashMap<>();
+
+	private static final Map<Class<?>, String> writeMethodMap = new HashMap<>();
+
+	private static final Map<Class<?>, String> vectorMap = new HashMap<>();
+
+	private static final Map<Class<?>, String> objectReaderMap = new HashMap<>();
+
+	private static final Map<Class<?>, String> binaryMethodMap = new HashMap<>();
+
+	private static final Map<String, Integer> bufferSizeMap = new HashMap<>();
+
+	private static final Map<Class<?>, String> csvFormatMap = new HashMap<>();
+
+	private static final Map<Class<?>, String> jsonFormatMap = new HashMap<>();
+
 	private static final Map<Class<?>, Class<?>> primitiveToWrapperMap = new HashMap<>();
 
 	private final Metadata metadata;
@@ -78,6 +148,22 @@ public class TableFacadeGenerator {
 
 	private final boolean useNullGuard;
 
+	private final Set<TablePath> referenceTables = new HashSet<>();
+
+	private IndexMetadata indexMetadata;
+
+	private boolean useImmutableRow;
+
+	private final MetadataRegistry registry = new MetadataRegistry();
+
+	private Path metadataRegistryHome;
+
+	static final String defaultRecursiveKeyword = "WITH RECURSIVE";
+
+	private String recursiveKeyword = defaultRecursiveKeyword;
+
+	private boolean useMaxRecursionOption;
+
 	static {
 		primitiveToWrapperMap.put(boolean.class, Boolean.class);
 		primitiveToWrapperMap.put(byte.class, Byte.class);
@@ -88,6 +174,74 @@ public class TableFacadeGenerator {
 		primitiveToWrapperMap.put(float.class, Float.class);
 		primitiveToWrapperMap.put(double.class, Double.class);
 		primitiveToWrapperMap.put(void.class, Void.class);
+
+		primitiveToWrapperMap.forEach((primitive, wrapper) -> {
+			if (primitive != void.class && primitive != char.class) wrapperToPrimitiveMap.put(wrapper, primitive);
+		});
+
+		readMethodMap.put(Long.class, "long$");
+		readMethodMap.put(Integer.class, "int$");
+		readMethodMap.put(Double.class, "double$");
+		readMethodMap.put(Boolean.class, "boolean$");
+		readMethodMap.put(String.class, "string$");
+		readMethodMap.put(BigDecimal.class, "bigDecimal$");
+		readMethodMap.put(Timestamp.class, "timestamp$");
+
+		writeMethodMap.put(Long.class, "setLong$");
+		writeMethodMap.put(Integer.class, "setInt$");
+		writeMethodMap.put(Double.class, "setDouble$");
+		writeMethodMap.put(Boolean.class, "setBoolean$");
+		writeMethodMap.put(String.class, "setString$");
+		writeMethodMap.put(BigDecimal.class, "setBigDecimal$");
+		writeMethodMap.put(Timestamp.class, "setTimestamp$");
+
+		vectorMap.put(Long.class, "LongVector");
+		vectorMap.put(Integer.class, "IntVector");
+		vectorMap.put(Double.class, "DoubleVector");
+		vectorMap.put(Boolean.class, "BooleanVector");
+		vectorMap.put(Short.class, "ShortVector");
+		vectorMap.put(Byte.class, "ByteVector");
+		vectorMap.put(Float.class, "FloatVector");
+
+		objectReaderMap.put(String.class, "BResultSet::getString");
+		objectReaderMap.put(BigDecimal.class, "BResultSet::getBigDecimal");
+		objectReaderMap.put(Timestamp.class, "BResultSet::getTimestamp");
+
+		binaryMethodMap.put(Long.class, "Long");
+		binaryMethodMap.put(Integer.class, "Int");
+		binaryMethodMap.put(Double.class, "Double");
+		binaryMethodMap.put(Boolean.class, "Boolean");
+		binaryMethodMap.put(Timestamp.class, "Timestamp");
+		binaryMethodMap.put(String.class, "String");
+		binaryMethodMap.put(BigDecimal.class, "BigDecimal");
+		binaryMethodMap.put(byte[].class, "Bytes");
+
+		//可変長の値は、補助領域のページ番号、ページ内の位置、長さを保持する
+		bufferSizeMap.put("Long", 8);
+		bufferSizeMap.put("Int", 4);
+		bufferSizeMap.put("Double", 8);
+		bufferSizeMap.put("Boolean", 1);
+		bufferSizeMap.put("Timestamp", 12);
+		bufferSizeMap.put("String", 12);
+		bufferSizeMap.put("BigDecimal", 12);
+		bufferSizeMap.put("Bytes", 12);
+		bufferSizeMap.put("Object", 4);
+
+		csvFormatMap.put(Long.class, "plain$");
+		csvFormatMap.put(Integer.class, "plain$");
+		csvFormatMap.put(Double.class, "plain$");
+		csvFormatMap.put(Boolean.class, "plain$");
+		csvFormatMap.put(Timestamp.class, "timestamp$");
+		csvFormatMap.put(BigDecimal.class, "decimal$");
+		csvFormatMap.put(byte[].class, "bytes$");
+
+		jsonFormatMap.put(Long.class, "plain$");
+		jsonFormatMap.put(Integer.class, "plain$");
+		jsonFormatMap.put(Double.class, "number$");
+		jsonFormatMap.put(Boolean.class, "plain$");
+		jsonFormatMap.put(BigDecimal.class, "decimal$");
+		jsonFormatMap.put(Timestamp.class, "timestamp$");
+		jsonFormatMap.put(byte[].class, "bytes$");
 	}
 
 	static {
@@ -140,6 +294,132 @@ public class TableFacadeGenerator {
 			source = result[1];
 		}
 
+		{
+			var result = pickupFromSource(source, "BatchLoadPart");
+			batchLoadPartTemplate = Formatter.convertToTemplate(result[0]);
+			source = result[1];
+		}
+
+		{
+			var result = pickupFromSource(source, "QueryCacheDependencyPart");
+			queryCacheDependencyPartTemplate = Formatter.convertToTemplate(result[0]);
+			source = result[1];
+		}
+
+		{
+			var result = pickupFromSource(source, "IdentityScopeDependencyPart");
+			identityScopeDependencyPartTemplate = Formatter.convertToTemplate(result[0]);
+			source = result[1];
+		}
+
+		{
+			var result = pickupFromSource(source, "UniqueIndexPart");
+			uniqueIndexPartTemplate = Formatter.convertToTemplate(result[0]);
+			source = result[1];
+		}
+
+		{
+			var result = pickupFromSource(source, "IndexPart");
+			indexPartTemplate = Formatter.convertToTemplate(result[0]);
+			source = result[1];
+		}
+
+		{
+			var result = pickupFromSource(source, "MapperPart");
+			mapperPartTemplate = Formatter.convertToTemplate(result[0]);
+			source = result[1];
+		}
+
+		{
+			var result = pickupFromSource(source, "StatementBinderPart");
+			statementBinderPartTemplate = Formatter.convertToTemplate(result[0]);
+			source = result[1];
+		}
+
+		{
+			var result = pickupFromSource(source, "ImmutableRowPropertyPart");
+			immutableRowPropertyPartTemplate = Formatter.convertToTemplate(result[0]);
+			source = result[1];
+		}
+
+		{
+			var result = pickupFromSource(source, "ImmutableRowReadPart");
+			immutableRowReadPartTemplate = Formatter.convertToTemplate(result[0]);
+			source = result[1];
+		}
+
+		{
+			var result = pickupFromSource(source, "ImmutableRowWritePart");
+			immutableRowWritePartTemplate = Formatter.convertToTemplate(result[0]);
+			source = result[1];
+		}
+
+		{
+			var result = pickupFromSource(source, "ColumnarPropertyPart");
+			columnarPropertyPartTemplate = Formatter.convertToTemplate(result[0]);
+			source = result[1];
+		}
+
+		{
+			var result = pickupFromSource(source, "ColumnarCasePart");
+			columnarCasePartTemplate = Formatter.convertToTemplate(result[0]);
+			source = result[1];
+		}
+
+		{
+			var result = pickupFromSource(source, "PluckPart");
+			pluckPartTemplate = Formatter.convertToTemplate(result[0]);
+			source = result[1];
+		}
+
+		{
+			var result = pickupFromSource(source, "RowBufferWritePart");
+			rowBufferWritePartTemplate = Formatter.convertToTemplate(result[0]);
+			source = result[1];
+		}
+
+		{
+			var result = pickupFromSource(source, "RowBufferGetterPart");
+			rowBufferGetterPartTemplate = Formatter.convertToTemplate(result[0]);
+			source = result[1];
+		}
+
+		{
+			var result = pickupFromSource(source, "RowBufferToRowPart");
+			rowBufferToRowPartTemplate = Formatter.convertToTemplate(result[0]);
+			source = result[1];
+		}
+
+		{
+			var result = pickupFromSource(source, "CodecEncodePart");
+			codecEncodePartTemplate = Formatter.convertToTemplate(result[0]);
+			source = result[1];
+		}
+
+		{
+			var result = pickupFromSource(source, "CodecDecodePart");
+			codecDecodePartTemplate = Formatter.convertToTemplate(result[0]);
+			source = result[1];
+		}
+
+		{
+			var result = pickupFromSource(source, "CsvWritePart");
+			csvWritePartTemplate = Formatter.convertToTemplate(result[0]);
+			source = result[1];
+		}
+
+		{
+			var result = pickupFromSource(source, "JsonWritePart");
+			jsonWritePartTemplate = Formatter.convertToTemplate(result[0]);
+			source = result[1];
+		}
+
+		{
+			var result = pickupFromSource(source, "BulkSetPart");
+			bulkSetPartTemplate = Formatter.convertToTemplate(result[0]);
+			source = result[1];
+		}
+
 		template = Formatter.convertToTemplate(source);
 	}
 
@@ -172,6 +452,61 @@ public class TableFacadeGenerator {
 		this.useNullGuard = useNullGuard;
 	}
 
+	/**
+	 * インデックスを使用した検索メソッドを生成するための {@link IndexMetadata} を設定します。
+	 * @param indexMetadata {@link IndexMetadata} 、生成しない場合は null
+	 */
+	public void setIndexMetadata(IndexMetadata indexMetadata) {
+		this.indexMetadata = indexMetadata;
+	}
+
+	/**
+	 * {@link MetadataRegistry} を保存するリソースのルートとなる場所を設定します。<br>
+	 * 実行時にクラスパスから読み込めるよう、リソースとしてパッケージングされる場所 (src/main/resources 等) を指定してください。
+	 * @param metadataRegistryHome リソースのルートとなる場所、保存しない場合は null
+	 */
+	public void setMetadataRegistryHome(Path metadataRegistryHome) {
+		this.metadataRegistryHome = metadataRegistryHome;
+	}
+
+	/**
+	 * 読み込み専用の変更できない ImmutableRow クラスを生成するかどうかを設定します。
+	 * @param useImmutableRow ImmutableRow クラスを生成する場合 true
+	 */
+	public void setUseImmutableRow(boolean useImmutableRow) {
+		this.useImmutableRow = useImmutableRow;
+	}
+
+	/**
+	 * 自身を参照するテーブルの階層の検索で使用する、再帰共通表式の開始キーワードを設定します。<br>
+	 * 生成されるすべてのクラスで共通の設定となります。<br>
+	 * デフォルトは WITH RECURSIVE です。 Oracle 、 SQL Server 等では WITH を設定してください。<br>
+	 * null を設定した場合、再帰共通表式を使用せず、階層ごとに検索するクラスが生成されます。
+	 * @param recursiveKeyword 開始キーワード、再帰共通表式を使用しない場合は null
+	 */
+	public void setRecursiveKeyword(String recursiveKeyword) {
+		this.recursiveKeyword = recursiveKeyword;
+	}
+
+	/**
+	 * 自身を参照するテーブルの階層の検索で、再帰共通表式に OPTION (MAXRECURSION n) を付加するかどうかを設定します。<br>
+	 * 生成されるすべてのクラスで共通の設定となります。<br>
+	 * SQL Server では再帰の上限のデフォルトが 100 のため、それを超える階層を検索する場合は true を設定してください。
+	 * @param useMaxRecursionOption OPTION (MAXRECURSION n) を付加する場合 true
+	 */
+	public void setUseMaxRecursionOption(boolean useMaxRecursionOption) {
+		this.useMaxRecursionOption = useMaxRecursionOption;
+	}
+
+	/**
+	 * 参照データとして全件をメモリ上に保持するテーブルを追加します。<br>
+	 * 主キーを持つテーブルのみ有効です。
+	 * @param table 対象となるテーブル
+	 */
+	public void addReferenceTable(TablePath table) {
+		referenceTables.add(Objects.requireNonNull(table));
+	}
+
 	/**
 	 * 自動生成可能なテーブル名かどうか判定します。
 	 * @param name テーブル名
@@ -214,6 +549,8 @@ public class TableFacadeGenerator {
 				build(relation),
 				srcCharset);
 		}
+
+		if (metadataRegistryHome != null) writeMetadataRegistry(metadataRegistryHome);
 	}
 
 	/**
@@ -241,6 +578,23 @@ public class TableFacadeGenerator {
 		DatabaseInfo.setStoredIdentifier(properties, metadata.getStoredIdentifier());
 
 		info.write(properties);
+
+		if (metadataRegistryHome != null) writeMetadataRegistry(metadataRegistryHome);
+	}
+
+	/**
+	 * このインスタンスで生成したテーブルの定義を {@link MetadataRegistry} としてファイルに保存します。<br>
+	 * 既にファイルが存在する場合、生成したテーブルの定義のみを置き換えます。<br>
+	 * 保存されたファイルは {@link MetadataRegistry#load(ClassLoader, String)} でクラスパスから読み込めます。
+	 * @param resourceHome リソースのルートとなる場所
+	 */
+	public void writeMetadataRegistry(Path resourceHome) {
+		var file = resourceHome.resolve(MetadataRegistry.resourceName(rootPackageName));
+		file.getParent().toFile().mkdirs();
+
+		var stored = MetadataRegistry.load(file);
+		stored.putAll(registry);
+		stored.save(file);
 	}
 
 	private File getRootPackageDir(File home) {
@@ -270,14 +624,44 @@ public class TableFacadeGenerator {
 
 		checkName(tableName);
 
+		registry.put(relation, metadata);
+
 		var importPart = new LinkedHashSet<String>();
 
-		String columnNamesPart, propertyAccessorPart, columnPart1, columnPart2;
+		var columnTypes = new TreeMap<String, String>(String.CASE_INSENSITIVE_ORDER);
+
+		String columnNamesPart, propertyAccessorPart, columnPart1, columnPart2, mapperPart, selectAll;
+		String immutablePropertyPart, immutableReadPart, immutableWritePart, immutableNullFields, immutableNullAssign;
+		String columnarPropertyPart, columnarCasePart, pluckPart;
+		String rowBufferWritePart, rowBufferGetterPart, rowBufferToRowPart, codecEncodePart, codecDecodePart;
+		int nullBytes, rowBufferRecordSize;
+		long fingerprint;
+		String csvWritePart, jsonWritePart, csvHeader;
+		int immutableNullWords;
 		{
+			var columnarProperties = new LinkedList<String>();
+			var columnarCases = new LinkedList<String>();
+			var plucks = new LinkedList<String>();
+			var rowBufferWrites = new LinkedList<String>();
+			var rowBufferGetters = new LinkedList<String>();
+			var rowBufferToRows = new LinkedList<String>();
+			var codecEncodes = new LinkedList<String>();
+			var codecDecodes = new LinkedList<String>();
+			var fingerprintSource = new StringBuilder(target.toString());
+			var csvWrites = new LinkedList<String>();
+			var jsonWrites = new LinkedList<String>();
+			var csvHeaders = new LinkedList<String>();
+			var rowBufferSizes = new LinkedList<Integer>();
+			var immutableProperties = new LinkedList<String>();
+			var immutableReads = new LinkedList<String>();
+			var immutableWrites = new LinkedList<String>();
+			var nullableCount = 0;
 			var columnNames = new LinkedList<String>();
 			var properties = new LinkedList<String>();
 			var list1 = new LinkedList<String>();
 			var list2 = new LinkedList<String>();
+			var mappers = new LinkedList<String>();
+			var selectColumns = new LinkedList<String>();
 
 			for (var column : relation.getColumns()) {
 				var type = column.getType();
@@ -315,6 +699,8 @@ public class TableFacadeGenerator {
 					}
 				}
 
+				columnTypes.put(column.getName(), classNameString);
+
 				var columnName = safe(column.getName());
 
 				var args = new HashMap<String, String>();
@@ -328,6 +714,7 @@ public class TableFacadeGenerator {
 				var commentBase = buildColumnComment(column);
 				args.put("COMMENT_1", decorate(commentBase, createIndent(1)));
 				args.put("COMMENT_2", decorate(commentBase, createIndent(2)));
+				args.put("COMMENT_3", decorate(commentBase, createIndent(3)));
 
 				args.put("NULL_CHECK", nullCheck);
 				args.put("RETURN_TYPE", returnType);
@@ -360,23 +747,276 @@ public class TableFacadeGenerator {
 
 				list2.add(
 					codeFormatter.formatRelationshipColumnPart2(relationshipColumnPart2Template, args));
+
+				//Number に統一する場合でも、読み込みには本来の型を使用する
+				var readMethod = readMethodMap.getOrDefault(convertPrimitiveClassToWrapperClass(type), "object$");
+				args.put("READ", readMethod + "(result, offset + " + (mappers.size() + 1) + ", " + columnMetadata.getType() + ")");
+
+				mappers.add(
+					codeFormatter.formatMapperPart(mapperPartTemplate, args));
+
+				selectColumns.add("a." + columnName);
+
+				{
+					var columnarArgs = new HashMap<String, String>(args);
+
+					var wrapper = convertPrimitiveClassToWrapperClass(type);
+					var vector = vectorMap.get(wrapper);
+					if (vector != null) {
+						columnarArgs.put("VECTOR", vector);
+						columnarArgs.put("NEW_VECTOR", "new " + vector + "()");
+						columnarArgs.put("PLUCK_TYPE", wrapperToPrimitiveMap.get(wrapper).getName() + "[]");
+						columnarArgs.put("PLUCK", "values()");
+					} else {
+						//基本型以外の項目は、型ごとの getter で読み込む
+						var reader = objectReaderMap.get(type);
+						if (reader == null)
+							reader = "(result, index) -> (" + classNameString + ") result.getObject(index)";
+
+						columnarArgs.put("VECTOR", "ObjectVector<" + classNameString + ">");
+						columnarArgs.put("NEW_VECTOR", "new ObjectVector<>(" + reader + ")");
+
+						columnarArgs.put("PLUCK_TYPE", classNameString + "[]");
+						columnarArgs.put("PLUCK", "toArray(" + classNameString + "[]::new)");
+					}
+
+					columnarProperties.add(
+						codeFormatter.formatColumnarPropertyPart(columnarPropertyPartTemplate, columnarArgs));
+
+					columnarCases.add(
+						codeFormatter.formatColumnarCasePart(columnarCasePartTemplate, columnarArgs));
+
+					plucks.add(
+						codeFormatter.formatPluckPart(pluckPartTemplate, columnarArgs));
+				}
+
+				var binaryMethod = binaryMethodMap.getOrDefault(
+					type.isArray() ? type : convertPrimitiveClassToWrapperClass(type),
+					"Object");
+
+				{
+
+					var bufferArgs = new HashMap<String, String>(args);
+					bufferArgs.put("PUT", "put" + binaryMethod + "$");
+					bufferArgs.put("GET", "get" + binaryMethod + "$");
+					bufferArgs.put("INDEX", Integer.toString(rowBufferSizes.size()));
+
+					//各項目の位置は、ヌルビット列の直後からの相対位置とする
+					var offset = rowBufferSizes.stream().mapToInt(Integer::intValue).sum();
+					bufferArgs.put("OFFSET", "NULLS$ + " + offset);
+
+					rowBufferSizes.add(bufferSizeMap.get(binaryMethod));
+
+					rowBufferWrites.add(
+						codeFormatter.formatRowBufferWritePart(rowBufferWritePartTemplate, bufferArgs));
+
+					rowBufferGetters.add(
+						codeFormatter.formatRowBufferGetterPart(rowBufferGetterPartTemplate, bufferArgs));
+
+					rowBufferToRows.add(
+						codeFormatter.formatRowBufferToRowPart(rowBufferToRowPartTemplate, bufferArgs));
+				}
+
+				{
+					var codecArgs = new HashMap<String, String>(args);
+					codecArgs.put("ENCODE", "write" + binaryMethod + "$");
+					codecArgs.put("DECODE", "read" + binaryMethod + "$");
+					codecArgs.put("INDEX", Integer.toString(codecEncodes.size()));
+
+					codecEncodes.add(
+						codeFormatter.formatCodecEncodePart(codecEncodePartTemplate, codecArgs));
+
+					codecDecodes.add(
+						codeFormatter.formatCodecDecodePart(codecDecodePartTemplate, codecArgs));
+
+					fingerprintSource.append(' ').append(column.getName()).append(':').append(binaryMethod);
+				}
+
+				{
+					var key = type.isArray() ? type : convertPrimitiveClassToWrapperClass(type);
+					var first = csvWrites.isEmpty();
+
+					var csvArgs = new HashMap<String, String>(args);
+					csvArgs.put("DELIMITER", first ? "" : U.LINE_SEPARATOR + createIndent(3) + "writer$.write(',');");
+					csvArgs.put("FORMAT", csvFormatMap.getOrDefault(key, "string$"));
+
+					csvWrites.add(
+						codeFormatter.formatCsvWritePart(csvWritePartTemplate, csvArgs));
+
+					var name = column.getName();
+					csvHeaders.add(name.matches(".*[,\"\r\n].*") ? "\"" + name.replace("\"", "\"\"") + "\"" : name);
+
+					var jsonArgs = new HashMap<String, String>(args);
+					jsonArgs.put("KEY", "\"" + escape((first ? "{" : ",") + "\"" + name.replace("\\", "\\\\").replace("\"", "\\\"") + "\":") + "\"");
+					jsonArgs.put("FORMAT", jsonFormatMap.getOrDefault(key, "string$"));
+
+					jsonWrites.add(
+						codeFormatter.formatJsonWritePart(jsonWritePartTemplate, jsonArgs));
+				}
+
+				{
+					var wrapper = type.isArray() ? type : convertPrimitiveClassToWrapperClass(type);
+					var wrapperName = type.isArray() ? classNameString : wrapper.getName();
+					var primitive = wrapperToPrimitiveMap.get(wrapper);
+
+					var immutableArgs = new HashMap<String, String>(args);
+					immutableArgs.put("FIELD", columnName);
+					immutableArgs.put("TYPE", wrapperName);
+
+					var local = columnName + "$";
+					var read = "var " + local + " = ";
+					var value = "data.getValue(\"" + columnName + "\").getValue()";
+					var indent = U.LINE_SEPARATOR + createIndent(3);
+
+					if (primitive != null) {
+						//基本型の項目は、 null であることをビット列で保持する
+						var word = nullableCount / 64;
+						var bit = "1L << " + (nullableCount % 64);
+						nullableCount++;
+
+						var isBoolean = primitive == boolean.class;
+
+						immutableArgs.put("FIELD_TYPE", primitive.getName());
+						immutableArgs.put("GET", "(nulls$" + word + " & " + bit + ") != 0 ? null : " + columnName);
+						immutableArgs.put(
+							"READ",
+							read + (isBoolean ? "(Boolean) " : "(Number) ") + value + ";"
+								+ indent + "this." + columnName + " = " + local + " == null ? " + (isBoolean ? "false" : "0") + " : " + local + (isBoolean ? "" : "." + primitive.getName() + "Value()") + ";"
+								+ indent + "if (" + local + " == null) nulls[" + word + "] |= " + bit);
+					} else if (type.isArray() || java.util.Date.class.isAssignableFrom(wrapper)) {
+						//変更可能な値は複製して保持する
+						var copy = type.isArray() ? ".clone()" : "(" + wrapperName + ") " + columnName + ".clone()";
+						var copyLocal = type.isArray() ? local + ".clone()" : "(" + wrapperName + ") " + local + ".clone()";
+
+						immutableArgs.put("FIELD_TYPE", wrapperName);
+						immutableArgs.put("GET", columnName + " == null ? null : " + (type.isArray() ? columnName + copy : copy));
+						immutableArgs.put(
+							"READ",
+							read + "(" + wrapperName + ") " + value + ";"
+								+ indent + "this." + columnName + " = " + local + " == null ? null : " + copyLocal);
+					} else {
+						immutableArgs.put("FIELD_TYPE", wrapperName);
+						immutableArgs.put("GET", columnName);
+						immutableArgs.put("READ", "this." + columnName + " = (" + wrapperName + ") " + value);
+					}
+
+					immutableProperties.add(
+						codeFormatter.formatImmutableRowPropertyPart(immutableRowPropertyPartTemplate, immutableArgs));
+
+					immutableReads.add(
+						codeFormatter.formatImmutableRowReadPart(immutableRowReadPartTemplate, immutableArgs));
+
+					immutableWrites.add(
+						codeFormatter.formatImmutableRowWritePart(immutableRowWritePartTemplate, immutableArgs));
+				}
 			}
 
+			columnarPropertyPart = String.join("", columnarProperties);
+			columnarCasePart = String.join("", columnarCases);
+			pluckPart = String.join("", plucks);
+
+			rowBufferWritePart = String.join("", rowBufferWrites);
+			rowBufferGetterPart = String.join("", rowBufferGetters);
+			rowBufferToRowPart = String.join("", rowBufferToRows);
+
+			codecEncodePart = String.join("", codecEncodes);
+			codecDecodePart = String.join("", codecDecodes);
+			fingerprint = fingerprint(fingerprintSource.toString());
+
+			csvWritePart = String.join("", csvWrites);
+			jsonWritePart = String.join("", jsonWrites);
+			csvHeader = escape(String.join(",", csvHeaders));
+
+			nullBytes = Math.max(1, (rowBufferSizes.size() + 7) / 8);
+			rowBufferRecordSize = nullBytes + rowBufferSizes.stream().mapToInt(Integer::intValue).sum();
+
+			immutablePropertyPart = String.join("", immutableProperties);
+			immutableReadPart = String.join("", immutableReads);
+			immutableWritePart = String.join("", immutableWrites);
+
+			immutableNullWords = (nullableCount + 63) / 64;
+
+			var nullFields = new StringBuilder();
+			var nullAssign = new StringBuilder();
+			for (var i = 0; i < immutableNullWords; i++) {
+				nullFields.append(U.LINE_SEPARATOR + createIndent(2) + "private final long nulls$" + i + ";" + U.LINE_SEPARATOR);
+
+				if (i == 0) nullAssign.append(U.LINE_SEPARATOR);
+				nullAssign.append(U.LINE_SEPARATOR + createIndent(3) + "nulls$" + i + " = nulls[" + i + "];");
+			}
+
+			immutableNullFields = nullFields.toString();
+			immutableNullAssign = nullAssign.toString();
+
 			columnNamesPart = String.join("", columnNames);
 			propertyAccessorPart = String.join("", properties);
 			columnPart1 = String.join("", list1);
 			columnPart2 = String.join("", list2);
+			mapperPart = String.join("", mappers);
+			selectAll = "a -> a.ls(" + String.join(", ", selectColumns) + ")";
 		}
 
-		String primaryKeyPart;
+		var primaryKey = metadata.getPrimaryKeyMetadata(relation.getTablePath());
+		var primaryKeyColumns = primaryKey.getColumnNames();
+
+		String insertBinderPart, updateBinderPart, insertColumns, insertColumnNames, insertPlaceholders, updateSet, updateWhere, bulkSetPart;
 		{
-			var primaryKey = metadata.getPrimaryKeyMetadata(relation.getTablePath());
-			var columns = primaryKey.getColumnNames();
+			var primaryKeySet = new TreeSet<String>(String.CASE_INSENSITIVE_ORDER);
+			primaryKeySet.addAll(Arrays.asList(primaryKeyColumns));
+
+			var inserts = new LinkedList<String>();
+			var updates = new LinkedList<String>();
+			var insertNames = new LinkedList<String>();
+			var setNames = new LinkedList<String>();
+			var whereNames = new LinkedList<String>();
+			var bulkSets = new LinkedList<String>();
+
+			//UPDATE では主キー以外の項目を先に、主キーを WHERE 句として後に設定する
+			var updateColumns = new LinkedList<Column>();
+			for (var column : relation.getColumns()) {
+				var name = column.getName();
 
-			if (columns.length > 0) {
+				inserts.add(buildStatementBinder(column, inserts.size() + 1));
+				insertNames.add(name);
+
+				var bulkSetArgs = new HashMap<String, String>();
+				bulkSetArgs.put("COLUMN", safe(name));
+				bulkSetArgs.put("SETTER", writeMethodMap.getOrDefault(convertPrimitiveClassToWrapperClass(column.getType()), "setObject$"));
+				bulkSetArgs.put("DB_TYPE", Integer.toString(column.getColumnMetadata().getType()));
+
+				bulkSets.add(codeFormatter.formatBulkSetPart(bulkSetPartTemplate, bulkSetArgs));
+
+				if (!primaryKeySet.contains(name)) {
+					updateColumns.add(column);
+					setNames.add(name + " = ?");
+				}
+			}
+
+			for (var name : primaryKeyColumns) {
+				Arrays.stream(relation.getColumns()).filter(c -> c.getName().equalsIgnoreCase(name)).findFirst().ifPresent(updateColumns::add);
+				whereNames.add(name + " = ?");
+			}
+
+			for (var column : updateColumns) {
+				updates.add(buildStatementBinder(column, updates.size() + 1));
+			}
+
+			insertBinderPart = String.join("", inserts);
+			updateBinderPart = String.join("", updates);
+			insertColumns = String.join(", ", insertNames);
+			insertColumnNames = insertNames.stream().map(name -> "\"" + safe(name) + "\"").collect(Collectors.joining(", "));
+			insertPlaceholders = String.join(", ", Collections.nCopies(insertNames.size(), "?"));
+			updateSet = String.join(", ", setNames);
+			updateWhere = String.join(" AND ", whereNames);
+			bulkSetPart = String.join("", bulkSets);
+		}
+
+		String primaryKeyPart;
+		{
+			if (primaryKeyColumns.length > 0) {
 				var args = new HashMap<String, String>();
 				args.put("PK", primaryKey.getName());
-				args.put("PK_COLUMNS", "\"" + String.join("\", \"", primaryKey.getColumnNames()) + "\"");
+				args.put("PK_COLUMNS", "\"" + String.join("\", \"", primaryKeyColumns) + "\"");
 
 				args.put("PSEUDO", primaryKey.isPseudo() ? ", pseudo = true" : "");
 
@@ -387,13 +1027,15 @@ public class TableFacadeGenerator {
 			}
 		}
 
-		String foreignKeysPart, rowRelationshipPart, myTemplate, tableRelationshipPart;
+		String foreignKeysPart, rowRelationshipPart, myTemplate, tableRelationshipPart, batchLoadPart;
+		CrossReference treeReference = null;
 		{
 			var checker = createDuprecateChecker(relation);
 
 			var relationships = new LinkedList<String>();
 			var rowRelationships = new LinkedList<String>();
 			var tableRelationships = new LinkedList<String>();
+			var batchLoads = new LinkedList<String>();
 
 			for (var child : relation.getRelationships()) {
 				var crossReference = child.getCrossReference();
@@ -402,6 +1044,8 @@ public class TableFacadeGenerator {
 				var childPath = child.getTablePath();
 				var childTableName = childPath.getTableName();
 
+				//Row の関連取得メソッド名 ($ + 参照先テーブル名、同じテーブルを複数参照する場合は $ + 外部キー名を追加)
+				//一括読み込みメソッドは、この名前に load を付けた load$<関連名> (例 load$customers) となる
 				var methodName = "$" + (checker.get(childTableName) ? childTableName + "$" + foreignKey : childTableName);
 
 				var relationship = "$" + (checker.get(childTableName) ? childTableName + "$" + foreignKey : childTableName);
@@ -424,7 +1068,13 @@ public class TableFacadeGenerator {
 				args.put("FK_COLUMNS", String.join(", ", fkColumns));
 				args.put("ANNOTATION_FK_COLUMNS", "\"" + String.join("\", \"", fkColumns) + "\"");
 
-				args.put("REF_COLUMNS", "\"" + String.join("\", \"", crossReference.getPrimaryKeyColumnNames()) + "\"");
+				var refColumns = crossReference.getPrimaryKeyColumnNames();
+
+				//自身を参照する外部キーは、最初のものを階層の検索に使用する
+				if (treeReference == null && childPath.equals(target)) treeReference = crossReference;
+
+				args.put("REF_COLUMNS", "\"" + String.join("\", \"", refColumns) + "\"");
+				args.put("REFERENCE_CRITERIA", buildReferenceCriteria(refColumns));
 
 				args.put("PSEUDO", crossReference.isPseudo() ? ", pseudo = true" : "");
 
@@ -446,6 +1096,17 @@ public class TableFacadeGenerator {
 					codeFormatter.formatTableRelationshipPart(
 						tableRelationshipPartTemplate,
 						args));
+
+				//参照先が参照データで、主キーを参照している場合はメモリ上で解決する
+				var snapshot = isReferenceTable(childPath)
+					&& Arrays.equals(refColumns, metadata.getPrimaryKeyMetadata(childPath).getColumnNames());
+
+				var batchLoadTemplate = Formatter.erase(batchLoadPartTemplate, "SNAPSHOT", !snapshot);
+
+				batchLoads.add(
+					codeFormatter.formatBatchLoadPart(
+						batchLoadTemplate,
+						args));
 			}
 
 			if (relationships.size() > 0) {
@@ -454,10 +1115,105 @@ public class TableFacadeGenerator {
 			}
 
 			myTemplate = Formatter.erase(template, relationships.isEmpty());
+			myTemplate = Formatter.erase(myTemplate, "FK", relationships.isEmpty());
+			myTemplate = Formatter.erase(myTemplate, "PK", primaryKeyColumns.length == 0);
+			myTemplate = Formatter.erase(myTemplate, "REF", !isReferenceTable(target));
+			myTemplate = Formatter.erase(myTemplate, "UPDATE", primaryKeyColumns.length == 0 || updateSet.isEmpty());
+			myTemplate = Formatter.erase(myTemplate, "IMMUTABLE", !useImmutableRow);
+			myTemplate = Formatter.erase(myTemplate, "TREE", treeReference == null);
 
 			foreignKeysPart = String.join("", relationships);
 			rowRelationshipPart = String.join("", rowRelationships);
 			tableRelationshipPart = String.join("", tableRelationships);
+			batchLoadPart = String.join("", batchLoads);
+		}
+
+		String uniqueIndexPart, indexPart, snapshotUniqueKeys;
+		{
+			var uniques = new LinkedList<String>();
+			var others = new LinkedList<String>();
+
+			var uniqueMethods = new HashSet<String>();
+			var uniqueKeys = new LinkedList<String>();
+			var indexedColumns = new TreeSet<String>(String.CASE_INSENSITIVE_ORDER);
+
+			var indexes = indexMetadata == null ? new IndexMetadata.Index[0] : indexMetadata.getIndexes(target);
+			for (var index : indexes) {
+				var indexColumns = index.getColumnNames();
+
+				//Row に存在しない項目を含むものは対象外
+				if (!Arrays.stream(indexColumns).allMatch(columnTypes::containsKey)) continue;
+
+				var args = new HashMap<String, String>();
+				args.put("PACKAGE", packageName);
+				args.put("TABLE", tableName);
+				args.put("INDEX", index.getName());
+				args.put("INDEX_COLUMNS", String.join(", ", indexColumns));
+
+				//主キーと同じ項目の一意インデックスは fetch で検索できる
+				if (index.isUnique() && !equalsIgnoreCase(indexColumns, primaryKeyColumns)) {
+					uniqueKeys.add("{ \"" + String.join("\", \"", indexColumns) + "\" }");
+
+					var method = Arrays.stream(indexColumns)
+						.map(c -> toUpperCaseFirstLetter(safe(c)))
+						.collect(Collectors.joining("And"));
+
+					if (uniqueMethods.add(method)) {
+						args.put("METHOD", method);
+						args.put("PARAMETERS", buildIndexParameters(indexColumns, columnTypes));
+						args.put("PARAM_COMMENTS", buildIndexParameterComments(indexColumns));
+						args.put("CRITERIA", buildIndexCriteria(indexColumns));
+
+						uniques.add(codeFormatter.formatUniqueIndexPart(uniqueIndexPartTemplate, args));
+					}
+				}
+
+				//IN による検索でインデックスを使用できるのは先頭項目のみ
+				var leading = indexColumns[0];
+				if (indexedColumns.add(leading)) {
+					var column = safe(leading);
+					args.put("METHOD", toUpperCaseFirstLetter(column));
+					args.put("COLUMN", column);
+					args.put("TYPE", columnTypes.get(leading));
+
+					others.add(codeFormatter.formatIndexPart(indexPartTemplate, args));
+				}
+			}
+
+			uniqueIndexPart = String.join("", uniques);
+			indexPart = String.join("", others);
+			snapshotUniqueKeys = String.join(", ", uniqueKeys);
+		}
+
+		String queryCacheDependencyPart, identityScopeDependencyPart;
+		{
+			var dependencies = new LinkedHashSet<TablePath>();
+			collectDependencies(relation, dependencies);
+			dependencies.remove(target);
+
+			var parts = new LinkedList<String>();
+			var scopes = new LinkedList<String>();
+			for (var dependency : dependencies) {
+				var args = new HashMap<String, String>();
+				args.put("PACKAGE", packageName);
+				args.put("TABLE", tableName);
+				args.put("REFERENCE_PACKAGE", rootPackageName + "." + TableFacadePackageRule.care(dependency.getSchemaName()));
+				args.put("REFERENCE", dependency.getTableName());
+
+				parts.add(
+					codeFormatter.formatQueryCacheDependencyPart(
+						queryCacheDependencyPartTemplate,
+						args));
+
+				//IdentityScope は主キーを持つテーブルのみに生成される
+				if (metadata.getPrimaryKeyMetadata(dependency).getColumnNames().length > 0) scopes.add(
+					codeFormatter.formatIdentityScopeDependencyPart(
+						identityScopeDependencyPartTemplate,
+						args));
+			}
+
+			queryCacheDependencyPart = String.join("", parts);
+			identityScopeDependencyPart = String.join("", scopes);
 		}
 
 		var args = new HashMap<String, String>();
@@ -475,6 +1231,64 @@ public class TableFacadeGenerator {
 		args.put("COLUMN_PART1", columnPart1);
 		args.put("COLUMN_PART2", columnPart2);
 		args.put("TABLE_RELATIONSHIP_PART", tableRelationshipPart);
+		args.put("BATCH_LOAD_PART", batchLoadPart);
+		args.put("QUERY_CACHE_DEPENDENCY_PART", queryCacheDependencyPart);
+		args.put("IDENTITY_SCOPE_DEPENDENCY_PART", identityScopeDependencyPart);
+		args.put("UNIQUE_INDEX_PART", uniqueIndexPart);
+		args.put("INDEX_PART", indexPart);
+		args.put("SNAPSHOT_UNIQUE_KEYS", snapshotUniqueKeys);
+		args.put("MAPPER_PART", mapperPart);
+		args.put("SELECT_ALL", selectAll);
+		args.put("INSERT_BINDER_PART", insertBinderPart);
+		args.put("UPDATE_BINDER_PART", updateBinderPart);
+		args.put("INSERT_COLUMNS", insertColumns);
+		args.put("INSERT_PLACEHOLDERS", insertPlaceholders);
+		args.put("UPDATE_SET", updateSet);
+		args.put("UPDATE_WHERE", updateWhere);
+		args.put("BULK_SET_PART", bulkSetPart);
+		args.put("INSERT_COLUMN_NAMES", insertColumnNames);
+		args.put("IMMUTABLE_NULL_FIELDS", immutableNullFields);
+		args.put("IMMUTABLE_PROPERTY_PART", immutablePropertyPart);
+		//null を保持するビット列が不要な場合は、ローカル変数も宣言しない
+		args.put("NULL_WORDS_DECLARATION", immutableNullWords > 0 ? U.LINE_SEPARATOR + createIndent(3) + "var nulls = new long[" + immutableNullWords + "];" : "");
+		args.put("IMMUTABLE_READ_PART", immutableReadPart);
+		args.put("IMMUTABLE_NULL_ASSIGN", immutableNullAssign);
+		args.put("IMMUTABLE_WRITE_PART", immutableWritePart);
+		args.put("COLUMNAR_PROPERTY_PART", columnarPropertyPart);
+		args.put("COLUMNAR_CASE_PART", columnarCasePart);
+		args.put("PLUCK_PART", pluckPart);
+		args.put("NULL_BYTES", Integer.toString(nullBytes));
+		args.put("ROW_BUFFER_RECORD_SIZE", Integer.toString(rowBufferRecordSize));
+		args.put("ROW_BUFFER_WRITE_PART", rowBufferWritePart);
+		args.put("ROW_BUFFER_GETTER_PART", rowBufferGetterPart);
+		args.put("ROW_BUFFER_TO_ROW_PART", rowBufferToRowPart);
+		args.put("CODEC_ENCODE_PART", codecEncodePart);
+		args.put("CODEC_DECODE_PART", codecDecodePart);
+		args.put("FINGERPRINT", "0x" + Long.toHexString(fingerprint) + "L");
+		args.put("CSV_HEADER", csvHeader);
+		args.put("CSV_WRITE_PART", csvWritePart);
+		args.put("JSON_WRITE_PART", jsonWritePart);
+		args.put("PK_COLUMNS", "\"" + String.join("\", \"", primaryKeyColumns) + "\"");
+		args.put("SEEK_CRITERIA", buildSeekCriteria(primaryKeyColumns));
+		args.put("PK_ORDER", buildPrimaryKeyOrder(primaryKeyColumns));
+		args.put("PK_SELECT", buildPrimaryKeySelect(primaryKeyColumns));
+		args.put("PK_CRITERIA", buildPrimaryKeyCriteria(primaryKeyColumns));
+		if (treeReference != null) {
+			var treeKeyColumns = treeReference.getPrimaryKeyColumnNames();
+			var treeParentColumns = treeReference.getForeignKeyColumnNames();
+			args.put("TREE_FK", treeReference.getForeignKeyName());
+			args.put("TREE_KEY_COLUMNS", "\"" + String.join("\", \"", treeKeyColumns) + "\"");
+			args.put("TREE_PARENT_COLUMNS", "\"" + String.join("\", \"", treeParentColumns) + "\"");
+			args.put("TREE_KEY_NAMES", String.join(", ", treeKeyColumns));
+			args.put("TREE_ROOT", buildTreeCondition(treeKeyColumns, null));
+			args.put("TREE_DESCENDANT_JOIN", buildTreeCondition(treeParentColumns, treeKeyColumns));
+			args.put("TREE_ANCESTOR_JOIN", buildTreeCondition(treeKeyColumns, treeParentColumns));
+			args.put("TREE_CHILD_COLUMNS", insertColumns.isEmpty() ? "" : "blendee_child." + insertColumns.replace(", ", ", blendee_child."));
+			args.put("RECURSIVE_KEYWORD", recursiveKeyword == null ? "null" : "\"" + recursiveKeyword + "\"");
+			args.put("MAX_RECURSION_OPTION", Boolean.toString(useMaxRecursionOption));
+		}
+
+		args.put("RANGE_COLUMN", primaryKeyColumns.length > 0 ? safe(primaryKeyColumns[0]) : "");
 
 		var tableMetadata = metadata.getTableMetadata(target);
 
@@ -491,6 +1305,61 @@ public class TableFacadeGenerator {
 		return U.toString(this);
 	}
 
+	private String buildStatementBinder(Column column, int index) {
+		var writeMethod = writeMethodMap.getOrDefault(convertPrimitiveClassToWrapperClass(column.getType()), "setObject$");
+
+		var args = new HashMap<String, String>();
+		args.put(
+			"WRITE",
+			writeMethod + "(statement, " + index + ", data.getValue(\"" + safe(column.getName()) + "\").getValue(), " + column.getColumnMetadata().getType() + ")");
+
+		return codeFormatter.formatStatementBinderPart(statementBinderPartTemplate, args);
+	}
+
+	private static boolean equalsIgnoreCase(String[] columns1, String[] columns2) {
+		if (columns1.length != columns2.length) return false;
+
+		for (var i = 0; i < columns1.length; i++) {
+			if (!columns1[i].equalsIgnoreCase(columns2[i])) return false;
+		}
+
+		return true;
+	}
+
+	private static String buildIndexParameters(String[] columns, Map<String, String> columnTypes) {
+		return Arrays.stream(columns)
+			.map(c -> columnTypes.get(c) + " " + safe(c))
+			.collect(Collectors.joining(", "));
+	}
+
+	private static String buildIndexParameterComments(String[] columns) {
+		return Arrays.stream(columns)
+			.map(c -> "\t * @param " + safe(c) + " " + c)
+			.collect(Collectors.joining(U.LINE_SEPARATOR));
+	}
+
+	/**
+	 * 一意インデックスの全項目が一致する条件
+	 */
+	private static String buildIndexCriteria(String[] columns) {
+		return "assist$ -> assist$." + Arrays.stream(columns)
+			.map(c -> safe(c) + ".eq(" + safe(c) + ")")
+			.collect(Collectors.joining(".AND."));
+	}
+
+	/**
+	 * 結合される可能性のあるテーブルを、参照先をたどって収集します。
+	 */
+	private static void collectDependencies(Relationship relation, Set<TablePath> dependencies) {
+		for (var child : relation.getRelationships()) {
+			if (dependencies.add(child.getTablePath())) collectDependencies(child, dependencies);
+		}
+	}
+
+	private boolean isReferenceTable(TablePath path) {
+		return referenceTables.contains(path) && metadata.getPrimaryKeyMetadata(path).getColumnNames().length > 0;
+	}
+
 	private static String buildImportPart(Class<?> target) {
 		return "import " + target.getName() + ";";
 	}
@@ -531,6 +1400,94 @@ public class TableFacadeGenerator {
 		return builder.toString();
 	}
 
+	/**
+	 * 参照先テーブルのキーで検索する WHERE 句の生成
+	 */
+	private static String buildReferenceCriteria(String[] refColumns) {
+		if (refColumns.length == 1) return "a -> a." + safe(refColumns[0]) + ".IN(chunk.toArray())";
+
+		var conditions = new LinkedList<String>();
+		for (var i = 0; i < refColumns.length; i++) {
+			conditions.add(safe(refColumns[i]) + ".eq(key.get(" + i + "))");
+		}
+
+		return "a -> chunk.forEach(k -> {"
+			+ " var key = (List<?>) k;"
+			+ " a.OR.paren(p -> p." + String.join(".AND.", conditions) + ");"
+			+ " })";
+	}
+
+	/**
+	 * 主キーの値より後のレコードを検索する WHERE 句の生成<br>
+	 * (k1 &gt; ?) OR (k1 = ? AND k2 &gt; ?) OR ...
+	 */
+	private static String buildSeekCriteria(String[] primaryKeyColumns) {
+		if (primaryKeyColumns.length == 0) return "";
+
+		if (primaryKeyColumns.length == 1) return "a -> a." + safe(primaryKeyColumns[0]) + ".gt(key[0])";
+
+		var branches = new LinkedList<String>();
+		for (var i = 0; i < primaryKeyColumns.length; i++) {
+			var conditions = new LinkedList<String>();
+			for (var j = 0; j < i; j++) {
+				conditions.add(safe(primaryKeyColumns[j]) + ".eq(key[" + j + "])");
+			}
+
+			conditions.add(safe(primaryKeyColumns[i]) + ".gt(key[" + i + "])");
+
+			branches.add("s.OR.paren(p -> p." + String.join(".AND.", conditions) + ");");
+		}
+
+		return "a -> a.paren(s -> { " + String.join(" ", branches) + " })";
+	}
+
+	private static String buildPrimaryKeySelect(String[] primaryKeyColumns) {
+		var columns = new LinkedList<String>();
+		for (var column : primaryKeyColumns) {
+			columns.add("a." + safe(column));
+		}
+
+		return "a -> a.ls(" + String.join(", ", columns) + ")";
+	}
+
+	/**
+	 * 主キーの値のいずれかに一致するレコードを対象とする WHERE 句の生成
+	 */
+	private static String buildPrimaryKeyCriteria(String[] primaryKeyColumns) {
+		if (primaryKeyColumns.length == 0) return "";
+
+		if (primaryKeyColumns.length == 1) return "a -> a." + safe(primaryKeyColumns[0]) + ".IN(keys.stream().map(key -> key[0]).toArray())";
+
+		var conditions = new LinkedList<String>();
+		for (var i = 0; i < primaryKeyColumns.length; i++) {
+			conditions.add(safe(primaryKeyColumns[i]) + ".eq(key[" + i + "])");
+		}
+
+		return "a -> keys.forEach(key -> a.OR.paren(p -> p." + String.join(".AND.", conditions) + "))";
+	}
+
+	/**
+	 * 階層の検索に使用する条件の生成<br>
+	 * other が null の場合 c1 = ? AND c2 = ? 、そうでない場合 blendee_child.c1 = blendee_parent.o1 AND blendee_child.c2 = blendee_parent.o2
+	 */
+	private static String buildTreeCondition(String[] columns, String[] other) {
+		var conditions = new LinkedList<String>();
+		for (var i = 0; i < columns.length; i++) {
+			conditions.add(other == null ? columns[i] + " = ?" : "blendee_child." + columns[i] + " = blendee_parent." + other[i]);
+		}
+
+		return String.join(" AND ", conditions);
+	}
+
+	private static String buildPrimaryKeyOrder(String[] primaryKeyColumns) {
+		var columns = new LinkedList<String>();
+		for (var column : primaryKeyColumns) {
+			columns.add("a." + safe(column) + ".ASC");
+		}
+
+		return "a -> a.ls(" + String.join(", ", columns) + ")";
+	}
+
 	private static Map<String, Boolean> createDuprecateChecker(Relationship relation) {
 		var checker = new HashMap<String, Boolean>();
 		for (var child : relation.getRelationships()) {
@@ -640,6 +1597,19 @@ public class TableFacadeGenerator {
 		if (!isGeneratableTableName(name)) throw new IllegalStateException(name);
 	}
 
+	/**
+	 * FNV-1a により 64 ビットのハッシュ値を算出します。
+	 */
+	private static long fingerprint(String source) {
+		var hash = 0xcbf29ce484222325L;
+		for (var b : source.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b & 0xff;
+			hash *= 0x100000001b3L;
+		}
+
+		return hash;
+	}
+
 	private static String safe(String name) {
 		if (!SourceVersion.isName(name)) return "_" + name;
 		return name;
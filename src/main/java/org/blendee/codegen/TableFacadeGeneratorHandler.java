@@ -3,6 +3,7 @@ package org.blendee.codegen;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.LinkedHashSet;
+import java.util.Objects;
 import java.util.Set;
 
 import org.blendee.jdbc.TablePath;
@@ -14,10 +15,41 @@ public abstract class TableFacadeGeneratorHandler {
 
 	private final Set<TablePath> tables = new LinkedHashSet<>();
 
+	private final Set<TablePath> referenceTables = new LinkedHashSet<>();
+
+	private IndexMetadata indexMetadata;
+
+	private boolean useImmutableRow;
+
+	private Path metadataRegistryHome;
+
+	private String recursiveKeyword = TableFacadeGenerator.defaultRecursiveKeyword;
+
 	public void add(TablePath table) {
 		tables.add(table);
 	}
 
+	public void addReferenceTable(TablePath table) {
+		add(table);
+		referenceTables.add(table);
+	}
+
+	public void setIndexMetadata(IndexMetadata indexMetadata) {
+		this.indexMetadata = indexMetadata;
+	}
+
+	public void setUseImmutableRow(boolean useImmutableRow) {
+		this.useImmutableRow = useImmutableRow;
+	}
+
+	public void setMetadataRegistryHome(Path metadataRegistryHome) {
+		this.metadataRegistryHome = metadataRegistryHome;
+	}
+
+	public void setRecursiveKeyword(String recursiveKeyword) {
+		this.recursiveKeyword = recursiveKeyword;
+	}
+
 	protected abstract boolean exists(TablePath path);
 
 	protected abstract void start(TablePath path);
@@ -37,6 +69,12 @@ public abstract class TableFacadeGeneratorHandler {
 	protected abstract Path getOutputRoot();
 
 	public void execute(TableFacadeGenerator generator) throws IOException {
+		referenceTables.forEach(generator::addReferenceTable);
+		if (indexMetadata != null) generator.setIndexMetadata(indexMetadata);
+		if (useImmutableRow) generator.setUseImmutableRow(true);
+		if (metadataRegistryHome != null) generator.setMetadataRegistryHome(metadataRegistryHome);
+		if (!Objects.equals(recursiveKeyword, TableFacadeGenerator.defaultRecursiveKeyword)) generator.setRecursiveKeyword(recursiveKeyword);
+
 		var factory = RelationshipFactory.getInstance();
 
 		while (tables.size() > 0) {
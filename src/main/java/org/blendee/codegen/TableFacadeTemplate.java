@@ -1,11 +1,62 @@
 /*--*//*@formatter:off*//*--*/package /*++[[PACKAGE]]++*//*--*/org.blendee.codegen/*--*/;
 
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.blendee.assist.AssistColumn;
 import org.blendee.assist.CriteriaAnyColumn;
@@ -70,8 +121,11 @@ import org.blendee.assist.annotation.Column;
 import org.blendee.assist.annotation.PrimaryKey;/*--*/
 import org.blendee.assist.annotation.Table;
 import org.blendee.jdbc.BPreparedStatement;
+import org.blendee.jdbc.BResultSet;
+import org.blendee.jdbc.BlendeeManager;
 import org.blendee.jdbc.ComposedSQL;
 import org.blendee.jdbc.ContextManager;
+import org.blendee.jdbc.PreparedStatementComplementer;
 import org.blendee.jdbc.Result;
 import org.blendee.jdbc.TablePath;
 import org.blendee.orm.ColumnNameDataObjectBuilder;
@@ -93,6 +147,16 @@ import org.blendee.sql.SQLDecorator;
 import org.blendee.sql.SQLQueryBuilder;
 import org.blendee.sql.ValueExtractor;
 import org.blendee.sql.ValueExtractorsConfigure;
+import org.blendee.sql.binder.BigDecimalBinder;
+import org.blendee.sql.binder.BooleanBinder;
+import org.blendee.sql.binder.DoubleBinder;
+import org.blendee.sql.binder.IntBinder;
+import org.blendee.sql.binder.LongBinder;
+import org.blendee.sql.binder.NullBinder;
+import org.blendee.sql.binder.ObjectBinder;
+import org.blendee.sql.binder.StringBinder;
+import org.blendee.sql.binder.TimestampBinder;
+import org.blendee.util.Blendee;
 /**
  * 自動生成されたテーブル操作クラスです。
 [[TABLE_COMMENT]]
@@ -178,6 +242,23 @@ public class /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/
 		return new Row(data);
 	}
 
+	/**
+	 * 他のテーブルの {@link Row} から参照されるレコードの {@link Row} を返します。<br>
+	 * このスレッドで {@link IdentityScope} が開始されていて、同じ主キーのレコードが既に読み込まれている場合は、その Row を返します。<br>
+	 * 結合で読み込まれたレコードは項目が限定されている可能性があるため、スコープには追加しません。
+	 * @param data 値を持つ {@link DataObject}
+	 * @return {@link Row}
+	 */
+	public static Row relatedRow(DataObject data) {
+/*--?PK--*/		var scope = identityScope$.get();
+		if (scope != null) {
+			var row = scope.rows.get(identityKey$(primaryKey$(data)));
+			if (row != null) return row;
+		}
+
+/*--?PK--*/		return new Row(data);
+	}
+
 	/**
 	 * 自動生成された {@link Row} の実装クラスです。
 	 */
@@ -186,13 +267,21 @@ public class /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/
 
 		private final DataObject data$;
 
+		/**
+		 * {@link [[TABLE]]#scan(Consumer)} で使いまわされる Row か
+		 */
+		private final boolean reused$;
+
 		private final Relationship rowRel$ = RelationshipFactory.getInstance().getInstance($TABLE);
 
+		private Map<String, RelatedRow$> relatedRows$;
+
 		/**
 		 * 登録用コンストラクタです。
 		 */
 		protected Row() {
 			data$ = new DataObject(rowRel$);
+			reused$ = false;
 		}
 
 		/**
@@ -200,7 +289,12 @@ public class /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/
 		 * @param data 値を持つ {@link DataObject}
 		 */
 		protected Row(DataObject data) {
+			this(data, false);
+		}
+
+		private Row(DataObject data, boolean reused) {
 			this.data$ = data;
+			this.reused$ = reused;
 		}
 
 		/**
@@ -210,6 +304,7 @@ public class /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/
 		 */
 		protected Row(Result result) {
 			this.data$ = ColumnNameDataObjectBuilder.build(result, rowRel$, ContextManager.get(ValueExtractorsConfigure.class).getValueExtractors());
+			reused$ = false;
 		}
 
 		@Override
@@ -221,7 +316,66 @@ public class /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/
 		public TablePath tablePath() {
 			return $TABLE;
 		}
-/*++[[ROW_PROPERTY_ACCESSOR_PART]]++*//*==RowPropertyAccessorPart==*/
+
+		/**
+		 * この Row と同じレコードを表す、新しい Row を生成します。<br>
+		 * 値は新しい {@link DataObject} に移し替えられるため、複製された Row の setter はこの Row に影響しません。<br>
+		 * {@link [[TABLE]]#scan(Consumer)} で渡された Row を保持する場合にも使用します。<br>
+		 * 一括読み込みで設定された参照先の Row は引き継がれますが、結合で読み込まれた参照先のレコードは複製されません。
+		 * @return 複製された {@link Row}
+		 */
+		public Row copy() {
+			//使いまわされる DataObject は次のレコードで上書きされるため、常に値を移し替える
+			var copy = new Row(copy$(data$));
+			if (relatedRows$ != null) copy.relatedRows$ = new HashMap<>(relatedRows$);
+			return copy;
+		}
+
+		private void clearRelated$() {
+			relatedRows$ = null;
+		}
+
+		private void relate$(String fkName, Object key, org.blendee.assist.Row related) {
+			if (relatedRows$ == null) relatedRows$ = new HashMap<>();
+			relatedRows$.put(fkName, new RelatedRow$(key, related));
+		}
+
+		/**
+		 * 設定された時点の外部キーの値と現在の値が異なる場合、設定された Row は使用しない
+		 */
+		private org.blendee.assist.Row related$(String fkName, Object key) {
+			if (relatedRows$ == null) return null;
+
+			var related = relatedRows$.get(fkName);
+			if (related == null) return null;
+
+			if (related.key.equals(key)) return related.row;
+
+			relatedRows$.remove(fkName);
+
+			return null;
+		}
+
+		private static class RelatedRow$ {
+
+			private final Object key;
+
+			private final org.blendee.assist.Row row;
+
+			private RelatedRow$(Object key, org.blendee.assist.Row row) {
+				this.key = key;
+				this.row = row;
+			}
+		}
+/*--?IMMUTABLE--*/
+		/**
+		 * この Row の現在の値を持つ {@link ImmutableRow} を生成します。
+		 * @return {@link ImmutableRow}
+		 */
+		public ImmutableRow toImmutable() {
+			return new ImmutableRow(data$);
+		}
+/*--?IMMUTABLE--*//*++[[ROW_PROPERTY_ACCESSOR_PART]]++*//*==RowPropertyAccessorPart==*/
 		/**
 		 * setter
 [[COMMENT_2]]
@@ -246,18 +400,65 @@ public class /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/
 
 		/**
 		 * このレコードが参照しているレコードの Row を返します。<br>
+		 * {@link [[TABLE]]#load[[METHOD]](Collection)} で取得済みの場合は、その Row を返します。<br>
 		 * 参照先テーブル名 [[REFERENCE]]<br>
 		 * 外部キー名 [[FK]]<br>
 		 * 項目名 [[FK_COLUMNS]]
 		 * @return 参照しているレコードの Row
 		 */
 		public /*++[[REFERENCE_PACKAGE]].[[REFERENCE]].++*/Row /*++[[METHOD]]++*//*--*/getRelatedRow/*--*/() {
-			return /*++[[REFERENCE_PACKAGE]].[[REFERENCE]].++*/row(
+			var related = related$(/*++[[REFERENCE_FIELD]]$[[FK]]++*//*--*/FK/*--*/, key$(data$, /*++[[ANNOTATION_FK_COLUMNS]]++*//*--*/""/*--*/));
+			if (related != null) return (/*++[[REFERENCE_PACKAGE]].[[REFERENCE]].++*/Row) related;
+
+			return /*++[[REFERENCE_PACKAGE]].[[REFERENCE]].++*/relatedRow(
 				data$.getDataObject(/*++[[REFERENCE_FIELD]]$[[FK]]++*//*--*/FK/*--*/));
 		}/*==RowRelationshipPart==*/
 	}
 
-	private static final TableFacadeContext<SelectCol> selectContext$ = (assist, name) -> new SelectCol(assist, name);
+/*--?IMMUTABLE--*/	/**
+	 * 読み込み専用の用途で {@link Row} の代わりに保持するための、変更できない Row です。<br>
+	 * 数値型等の項目は基本型のフィールドで保持し、 null であることはビット列で保持します。<br>
+	 * インスタンスはスレッド間で共有できます。
+	 */
+	public static final class ImmutableRow {
+/*++[[IMMUTABLE_NULL_FIELDS]]++*//*--*/private final long nulls$0;/*--*//*++[[IMMUTABLE_PROPERTY_PART]]++*//*==ImmutableRowPropertyPart==*/
+		private final /*++[[FIELD_TYPE]]++*//*--*/Object/*--*/ /*++[[FIELD]]++*//*--*/field$/*--*/;
+
+		/**
+		 * getter
+[[COMMENT_2]]
+		 * @return [[TYPE]]
+		 */
+		public /*++[[TYPE]]++*//*--*/Object/*--*/ get/*++[[METHOD]]++*/() {
+			return /*++[[GET]]++*//*--*/field$/*--*/;
+		}
+/*==ImmutableRowPropertyPart==*/
+		private ImmutableRow(DataObject data) {/*++[[NULL_WORDS_DECLARATION]]++*//*--*/var nulls = new long[1];/*--*//*++[[IMMUTABLE_READ_PART]]++*//*==ImmutableRowReadPart==*/
+			/*++[[READ]]++*//*--*/field$ = data.getValue("columnName").getValue()/*--*/;/*==ImmutableRowReadPart==*//*++[[IMMUTABLE_NULL_ASSIGN]]++*//*--*/nulls$0 = nulls[0];/*--*/
+		}
+
+		/**
+		 * {@link Row} の現在の値を持つインスタンスを生成します。
+		 * @param row 値を持つ {@link Row}
+		 * @return {@link ImmutableRow}
+		 */
+		public static ImmutableRow of(Row row) {
+			return new ImmutableRow(row.data$);
+		}
+
+		/**
+		 * このインスタンスの値を持つ、登録用の新しい {@link Row} を生成します。
+		 * @return {@link Row}
+		 */
+		public Row toRow() {
+			var row = new Row();/*++[[IMMUTABLE_WRITE_PART]]++*//*==ImmutableRowWritePart==*/
+			row.set/*++[[METHOD]]++*/(get/*++[[METHOD]]++*/());/*==ImmutableRowWritePart==*/
+
+			return row;
+		}
+	}
+
+/*--?IMMUTABLE--*/	private static final TableFacadeContext<SelectCol> selectContext$ = (assist, name) -> new SelectCol(assist, name);
 
 	private static final TableFacadeContext<GroupByCol> groupByContext$ = (assist, name) -> new GroupByCol(assist, name);
 
@@ -443,6 +644,16 @@ public class /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/
 
 	private SelectBehavior selectBehavior$;
 
+	/**
+	 * SELECT 句で項目が限定されているか
+	 */
+	private boolean selected$;
+
+	/**
+	 * 最後に設定された SELECT 句を、一時的に SELECT 句を置き換えた後で再設定するための {@link Consumer}
+	 */
+	private Consumer<SelectBehavior> selectReplay$;
+
 	private SelectBehavior selectBehavior() {
 		return selectBehavior$ == null ? (selectBehavior$ = new SelectBehavior()) : selectBehavior$;
 	}
@@ -587,11 +798,15 @@ public class /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/
 	 */
 	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/(SelectContext context) {
 		selectBehavior().setSelectContext(Objects.requireNonNull(context));
+		selected$ = true;
 	}
 
 	@Override
 	public Row createRow(DataObject data) {
-		return new Row(data);
+/*--?PK--*/		var scope = identityScope$.get();
+		if (scope != null && !selected$) return scope.share(primaryKey$(data), () -> new Row(data));
+
+/*--?PK--*/		return new Row(data);
 	}
 
 	@Override
@@ -613,414 +828,4442 @@ public class /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/
 	 */
 	public class Iterator extends RowIterator<Row> {
 
+		/**
+		 * {@link QueryCache} に保持された検索結果、 {@link DataObjectIterator} から読み込む場合は null
+		 */
+		private final java.util.Iterator<DataObject> cached$;
+
+		/**
+		 * 読み込んだ検索結果を {@link QueryCache} に保持するための {@link Recorder} 、記録しない場合は null
+		 */
+		private Recorder recorder$;
+
 		/**
 		 * 唯一のコンストラクタです。
 		 * @param iterator
 		 */
 		private Iterator(
 			DataObjectIterator iterator) {
+			this(iterator, null);
+		}
+
+		private Iterator(DataObjectIterator iterator, Recorder recorder) {
 			super(iterator);
+			cached$ = null;
+			recorder$ = recorder;
+		}
+
+		/**
+		 * {@link QueryCache} に保持された検索結果を走査します。<br>
+		 * 元となる {@link DataObjectIterator} が存在しないため、 {@link RowIterator} の public メソッドはすべてこのクラスで置き換え、親クラスの処理を経由しないようにしています。
+		 */
+		private Iterator(List<DataObject> cached) {
+			super(null);
+			cached$ = cached.iterator();
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (cached$ != null) return cached$.hasNext();
+
+			var hasNext = super.hasNext();
+
+			//最後まで読み込まれたので、記録した検索結果をキャッシュする
+			if (!hasNext && recorder$ != null) {
+				recorder$.complete();
+				recorder$ = null;
+			}
+
+			return hasNext;
 		}
 
 		@Override
 		public Row next() {
 			return createRow(nextDataObject());
 		}
-	}
 
-	/**
-	 * この {@link SelectStatement} のテーブルを表す {@link TableFacadeAssist} を参照するためのインスタンスです。
-	 * @return assist
-	 */
-	public ExtAssist<TableFacadeColumn, Void> assist() {
-		return new ExtAssist<>(this, TableFacadeContext.OTHER, CriteriaContext.NULL);
-	}
+		@Override
+		public DataObject nextDataObject() {
+			//キャッシュ内の値が呼び出し側から変更されないよう、複製を渡す
+			if (cached$ != null) return copy$(cached$.next());
 
-	/**
-	 * SELECT 句を作成する {@link Consumer}
-	 * @param consumer {@link Consumer}
-	 * @return this
-	 */
-	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ selectClause(Consumer<ListSelectAssist> consumer) {
-		selectBehavior().selectClause(consumer);
-		return this;
-	}
+			var data = super.nextDataObject();
+			if (recorder$ != null && !recorder$.record(data)) recorder$ = null;
 
-	/**
-	 * GROUP BY 句を作成する {@link Consumer}
-	 * @param consumer {@link Consumer}
-	 * @return this
-	 */
-	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ groupByClause(Consumer<ListGroupByAssist> consumer) {
-		selectBehavior().groupByClause(consumer);
-		return this;
-	}
+			return data;
+		}
 
-	/**
-	 * GROUP BY 句を作成する {@link Consumer}
-	 * @param consumer {@link Consumer}
-	 * @return this
-	 */
-	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ orderByClause(Consumer<ListOrderByAssist> consumer) {
-		selectBehavior().orderByClause(consumer);
-		return this;
-	}
+		@Override
+		public java.util.Iterator<Row> iterator() {
+			return this;
+		}
 
-	/**
-	 * SELECT 句を記述します。
-	 * @param function
-	 * @return この {@link SelectStatement}
-	 */
-	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ SELECT(
-		SelectOfferFunction<SelectAssist> function) {
-		selectBehavior().SELECT(function);
-		return this;
+		@Override
+		public void close() {
+			if (cached$ == null) super.close();
+		}
 	}
 
 	/**
-	 * DISTINCT を使用した SELECT 句を記述します。
-	 * @param function
-	 * @return この {@link SelectStatement}
+	 * 検索結果を、一つの {@link Row} と {@link DataObject} を使いまわしながら走査します。<br>
+	 * 値は {@link Mapper} で直接読み込まれるため、レコードごとに生成されるのは各項目の {@link Binder} と値そのもののみです。<br>
+	 * 検索される項目はこのテーブルの全項目で、このインスタンスの SELECT 句は変更されません。参照先テーブルの Row は取得できません。<br>
+	 * consumer に渡される {@link Row} は次のレコードを読み込む時点で内容が置き換わるため、保持する場合は {@link Row#copy()} を使用してください。
+	 * @param consumer 各レコードを受け取る {@link Consumer}
 	 */
-	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ SELECT_DISTINCT(
-		SelectOfferFunction<SelectAssist> function) {
-		selectBehavior().SELECT_DISTINCT(function);
-		return this;
-	}
+	public void scan(Consumer<Row> consumer) {
+		selectBehavior().checkRowMode();
+
+		var query = derive$(/*++[[SELECT_ALL]]++*//*--*/a -> a.ls(a.columnName)/*--*/, null, null);
+
+		var data = new DataObject(relationship$);
+		var row = new Row(data, true);
+		query$(query.sql(), statement -> query.complement(0, statement), result -> {
+			while (result.next()) {
+				Mapper.fill$(result, 0, data);
+				row.clearRelated$();
+				consumer.accept(row);
+			}
 
-	/**
-	 * COUNT(*) を使用した SELECT 句を記述します。
-	 * @return この {@link SelectStatement}
-	 */
-	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ SELECT_COUNT() {
-		selectBehavior().SELECT_COUNT();
-		return this;
+			return null;
+		});
 	}
 
 	/**
-	 * GROUP BY 句を記述します。
-	 * @param function
-	 * @return この {@link SelectStatement}
+	 * 検索結果を {@link Mapper} で直接 {@link Row} に変換しながら走査します。<br>
+	 * 検索される項目はこのテーブルの全項目で、このインスタンスの SELECT 句は変更されません。<br>
+	 * レコードごとに {@link Row} とその {@link DataObject} 、各項目の {@link Binder} が生成されます。 Row を保持しない場合は、それらも再利用する {@link #scan(Consumer)} を使用してください。
+	 * @param consumer 各レコードを受け取る {@link Consumer}
 	 */
-	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ GROUP_BY(
-		GroupByOfferFunction<GroupByAssist> function) {
-		selectBehavior().GROUP_BY(function);
-		return this;
+	public void retrieveMapped(Consumer<Row> consumer) {
+		selectBehavior().checkRowMode();
+
+		var query = derive$(/*++[[SELECT_ALL]]++*//*--*/a -> a.ls(a.columnName)/*--*/, null, null);
+
+		query$(query.sql(), statement -> query.complement(0, statement), result -> {
+			var mapper = new Mapper();
+			while (result.next()) {
+				consumer.accept(mapper.map(result, 0));
+			}
+
+			return null;
+		});
 	}
 
+	private static volatile BiFunction<Integer, Integer, SQLDecorator> pageDecorator$ = (offset, limit) -> sql -> sql + " LIMIT " + limit + " OFFSET " + offset;
+
 	/**
-	 * WHERE 句を記述します。
-	 * @param consumers
-	 * @return この {@link SelectStatement}
+	 * このテーブルで検索結果の範囲を指定する際に使用する {@link SQLDecorator} を設定します。<br>
+	 * デフォルトでは SQL の末尾に LIMIT 句と OFFSET 句を追加します。
+	 * @param decorator 読み飛ばす件数と上限件数から {@link SQLDecorator} を生成する {@link BiFunction}
 	 */
-	@SafeVarargs
-	public final /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ WHERE(
-		Consumer<WhereAssist>... consumers) {
-		selectBehavior().WHERE(consumers);
-		return this;
+	public static void setPageDecorator(BiFunction<Integer, Integer, SQLDecorator> decorator) {
+		pageDecorator$ = Objects.requireNonNull(decorator);
 	}
 
 	/**
-	 * WHERE 句で使用できる {@link  Criteria} を作成します。
-	 * @param consumer {@link Consumer}
-	 * @return {@link Criteria}
+	 * 検索結果の offset 件目から最大 limit 件と、検索条件に該当する全体の件数を一度の検索で取得します。<br>
+	 * 検索される項目は、このテーブルの全項目と、全体の件数を求める COUNT(*) OVER() です。<br>
+	 * このインスタンスの SELECT 句と {@link SQLDecorator} は変更されないため、同じインスタンスで繰り返し呼び出すことができます。<br>
+	 * 範囲が一定となるよう、このインスタンスには ORDER BY 句を設定してください。<br>
+	 * 範囲にレコードが存在しない場合のみ、全体の件数は {@link #countSQL()} により別途検索されます。<br>
+	 * {@link #enableQueryCache(long)} でキャッシュを使用している場合、全体の件数は {@link #count()} の結果としてもキャッシュされます。
+	 * @param offset 読み飛ばす件数
+	 * @param limit 最大件数
+	 * @return ページ
 	 */
-	public Criteria createWhereCriteria(
-		Consumer<WhereAssist> consumer) {
-		return selectBehavior().createWhereCriteria(consumer);
+	public Page retrievePageWithTotal(int offset, int limit) {
+		if (offset < 0) throw new IllegalArgumentException("offset");
+		if (limit <= 0) throw new IllegalArgumentException("limit");
+
+		selectBehavior().checkRowMode();
+
+		//範囲を指定する前の検索条件で、 count() と同じ件数の検索を行えるようにしておく
+		var whole = reproduce();
+
+		//このインスタンスには範囲も件数も追加せず、複製した Query にのみ追加する
+		var query = derive$(/*++[[SELECT_ALL]]++*//*--*/a -> a.ls(a.columnName)/*--*/, null, null, sql -> {
+			//SELECT 句はこのテーブルの全項目のみなので、先頭に件数を追加する
+			if (!sql.startsWith("SELECT ")) throw new IllegalStateException(sql);
+			return "SELECT COUNT(*) OVER() blendee_total, " + sql.substring("SELECT ".length());
+		}, pageDecorator$.apply(offset, limit));
+
+		var cache = queryCache$;
+		var version = cache == null ? 0 : cache.version();
+
+		var rows = new ArrayList<Row>();
+		int total = query$(query.sql(), statement -> query.complement(0, statement), result -> {
+			var mapper = new Mapper();
+			var count = -1;
+			while (result.next()) {
+				count = result.getInt(1);
+				rows.add(mapper.map(result, 1));
+			}
+
+			return count;
+		});
+
+		if (total < 0) {
+			total = whole.count();
+		} else if (cache != null) {
+			cache.put(queryKey$(whole.countSQL().sql(), whole.currentBinders()), total, 1, estimateBytes$(total), version);
+		}
+
+		return new Page(rows, total);
 	}
 
 	/**
-	 * HAVING 句を記述します。
-	 * @param consumers
-	 * @return この {@link SelectStatement}
+	 * {@link #retrievePageWithTotal(int, int)} で取得したページと、全体の件数を保持するクラスです。
 	 */
-	@SafeVarargs
-	public final /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ HAVING(
-		Consumer<HavingAssist>... consumers) {
-		selectBehavior().HAVING(consumers);
-		return this;
+	public static class Page {
+
+		private final List<Row> rows;
+
+		private final int total;
+
+		private Page(List<Row> rows, int total) {
+			this.rows = Collections.unmodifiableList(rows);
+			this.total = total;
+		}
+
+		/**
+		 * @return ページ内の {@link Row}
+		 */
+		public List<Row> getRows() {
+			return rows;
+		}
+
+		/**
+		 * @return 検索条件に該当する全体の件数
+		 */
+		public int getTotal() {
+			return total;
+		}
 	}
 
 	/**
-	 * HAVING 句で使用できる {@link  Criteria} を作成します。
-	 * @param consumer {@link Consumer}
-	 * @return {@link Criteria}
+	 * このテーブルの全項目を、型ごとの getter を使用して位置により読み込み、 {@link Row} を生成するクラスです。<br>
+	 * 汎用の {@link ValueExtractor} による変換を経由しません。<br>
+	 * 生成された {@link Row} は、全項目が設定済みの状態となります。
 	 */
-	public Criteria createHavingCriteria(
-		Consumer<HavingAssist> consumer) {
-		return selectBehavior().createHavingCriteria(consumer);
+	public static class Mapper {
+
+		private final Relationship relationship = RelationshipFactory.getInstance().getInstance($TABLE);
+
+		/**
+		 * 検索結果の現在の行から {@link Row} を生成します。<br>
+		 * 検索結果には、このテーブルの全項目が定義順に並んでいる必要があります。
+		 * @param result 検索結果
+		 * @param offset このテーブルの先頭項目の前にある項目の数
+		 * @return {@link Row}
+		 */
+		public Row map(BResultSet result, int offset) {
+			var data = new DataObject(relationship);
+			fill$(result, offset, data);
+			return new Row(data);
+		}
+
+		private static void fill$(BResultSet result, int offset, DataObject data) {/*++[[MAPPER_PART]]++*//*==MapperPart==*/
+			data.setValue("[[COLUMN]]", /*++[[READ]]++*//*--*/object$(result, offset + 1, 0)/*--*/);/*==MapperPart==*/
+		}
+
+		private static Binder long$(BResultSet result, int index, int type) {
+			var value = result.getLong(index);
+			return result.wasNull() ? new NullBinder(type) : new LongBinder(value);
+		}
+
+		private static Binder int$(BResultSet result, int index, int type) {
+			var value = result.getInt(index);
+			return result.wasNull() ? new NullBinder(type) : new IntBinder(value);
+		}
+
+		private static Binder double$(BResultSet result, int index, int type) {
+			var value = result.getDouble(index);
+			return result.wasNull() ? new NullBinder(type) : new DoubleBinder(value);
+		}
+
+		private static Binder boolean$(BResultSet result, int index, int type) {
+			var value = result.getBoolean(index);
+			return result.wasNull() ? new NullBinder(type) : new BooleanBinder(value);
+		}
+
+		private static Binder string$(BResultSet result, int index, int type) {
+			var value = result.getString(index);
+			return value == null ? new NullBinder(type) : new StringBinder(value);
+		}
+
+		private static Binder bigDecimal$(BResultSet result, int index, int type) {
+			var value = result.getBigDecimal(index);
+			return value == null ? new NullBinder(type) : new BigDecimalBinder(value);
+		}
+
+		private static Binder timestamp$(BResultSet result, int index, int type) {
+			var value = result.getTimestamp(index);
+			return value == null ? new NullBinder(type) : new TimestampBinder(value);
+		}
+
+		private static Binder object$(BResultSet result, int index, int type) {
+			var value = result.getObject(index);
+			return value == null ? new NullBinder(type) : new ObjectBinder(value);
+		}
 	}
 
 	/**
-	 * このクエリに INNER JOIN で別テーブルを結合します。
-	 * @param right 別クエリ
-	 * @return ON
+	 * 指定された項目のみを検索し、結果を {@link Row} ではなく項目ごとの配列に格納して返します。<br>
+	 * 数値型等の項目は基本型の配列で保持され、 null であることはビット列で保持されます。<br>
+	 * このインスタンスの SELECT 句は変更されません。
+	 * @param columnNames 検索する項目名 (このクラスの項目名定数)
+	 * @return {@link Columnar}
 	 */
-	public <R extends OnRightClauseAssist<?>> OnClause<OnLeftAssist, R, /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/> INNER_JOIN(RightTable<R> right) {
-		return selectBehavior().INNER_JOIN(right, this);
-	}
+	public Columnar retrieveColumnar(String... columnNames) {
+		var columnar = new Columnar(columnNames);
+
+		selectBehavior().checkRowMode();
 
+		var query = derive$(a -> a.ls(columnar.select$(a)), null, null);
+
+		query$(query.sql(), statement -> query.complement(0, statement), result -> {
+			var vectors = columnar.vectors$;
+			while (result.next()) {
+				for (var i = 0; i < vectors.length; i++) {
+					vectors[i].read$(result, i + 1);
+				}
+
+				columnar.size$++;
+			}
+
+			return null;
+		});
+
+		return columnar;
+	}
+/*++[[PLUCK_PART]]++*//*==PluckPart==*/
 	/**
-	 * このクエリに LEFT OUTER JOIN で別テーブルを結合します。
-	 * @param right 別クエリ
-	 * @return ON
+	 * 項目 [[COLUMN]] のみを検索し、値を配列で返します。<br>
+	 * 基本型の配列の場合、 null の値は 0 または false となります。<br>
+	 * このインスタンスの SELECT 句は変更されません。
+	 * @return 検索された値
 	 */
-	public <R extends OnRightClauseAssist<?>> OnClause<OnLeftAssist, R, /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/> LEFT_OUTER_JOIN(RightTable<R> right) {
-		return selectBehavior().LEFT_OUTER_JOIN(right, this);
+	public /*++[[PLUCK_TYPE]]++*//*--*/Object[]/*--*/ pluck/*++[[METHOD]]++*/() {
+		return retrieveColumnar(/*++[[COLUMN]]++*//*--*/columnName/*--*/).get/*++[[METHOD]]++*/()./*++[[PLUCK]]++*//*--*/toArray(Object[]::new)/*--*/;
 	}
-
+/*==PluckPart==*/
 	/**
-	 * このクエリに RIGHT OUTER JOIN で別テーブルを結合します。
-	 * @param right 別クエリ
-	 * @return ON
+	 * {@link #retrieveColumnar(String...)} の検索結果を、項目ごとの配列で保持するクラスです。<br>
+	 * 検索されなかった項目の getter を呼び出した場合、例外が発生します。
 	 */
-	public <R extends OnRightClauseAssist<?>> OnClause<OnLeftAssist, R, /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/> RIGHT_OUTER_JOIN(RightTable<R> right) {
+	public static class Columnar {
+
+		private final Vector[] vectors$;
+
+		private final List<Function<SelectAssist, SelectCol>> selectors$ = new LinkedList<>();
+
+		private int size$;
+/*++[[COLUMNAR_PROPERTY_PART]]++*//*==ColumnarPropertyPart==*/
+		private /*++[[VECTOR]]++*//*--*/ObjectVector<Object>/*--*/ /*++[[COLUMN]]++*//*--*/columnName/*--*/;
+
+		/**
+		 * getter
+[[COMMENT_2]]
+		 * @return 項目の値
+		 */
+		public /*++[[VECTOR]]++*//*--*/ObjectVector<Object>/*--*/ get/*++[[METHOD]]++*/() {
+			return vector$(/*++[[COLUMN]]++*//*--*/columnName/*--*/, "[[COLUMN]]");
+		}
+/*==ColumnarPropertyPart==*/
+		private Columnar(String[] columnNames) {
+			if (columnNames.length == 0) throw new IllegalArgumentException("columnNames");
+
+			vectors$ = new Vector[columnNames.length];
+			for (var i = 0; i < columnNames.length; i++) {
+				switch (columnNames[i]) {/*++[[COLUMNAR_CASE_PART]]++*//*==ColumnarCasePart==*/
+				case "[[COLUMN]]":
+					vectors$[i] = /*++[[COLUMN]]++*//*--*/columnName/*--*/ = /*++[[NEW_VECTOR]]++*//*--*/new ObjectVector<>(BResultSet::getObject)/*--*/;
+					selectors$.add(a -> a./*++[[COLUMN]]++*//*--*/columnName/*--*/);
+					break;/*==ColumnarCasePart==*/
+				default:
+					throw new IllegalArgumentException(columnNames[i]);
+				}
+			}
+		}
+
+		private SelectCol[] select$(SelectAssist assist) {
+			return selectors$.stream().map(selector -> selector.apply(assist)).toArray(SelectCol[]::new);
+		}
+
+		/**
+		 * @return 検索された件数
+		 */
+		public int size() {
+			return size$;
+		}
+
+		private static <T extends Vector> T vector$(T vector, String columnName) {
+			if (vector == null) throw new IllegalStateException(columnName);
+			return vector;
+		}
+
+		/**
+		 * 一項目分の値を保持する配列の基底クラスです。
+		 */
+		public static abstract class Vector {
+
+			private long[] nulls$ = new long[1];
+
+			int size$;
+
+			private Vector() {}
+
+			/**
+			 * @return 保持している値の数
+			 */
+			public int size() {
+				return size$;
+			}
+
+			/**
+			 * @param index 位置
+			 * @return 指定された位置の値が null の場合 true
+			 */
+			public boolean isNull(int index) {
+				Objects.checkIndex(index, size$);
+				return (nulls$[index >>> 6] & 1L << index) != 0;
+			}
+
+			abstract void read$(BResultSet result, int index);
+
+			void setNull$(int index) {
+				var word = index >>> 6;
+				if (word >= nulls$.length) nulls$ = Arrays.copyOf(nulls$, Math.max(nulls$.length * 2, word + 1));
+				nulls$[word] |= 1L << index;
+			}
+
+			static int grow$(int length) {
+				return Math.max(length * 2, 16);
+			}
+		}
+
+		/**
+		 * long の値を保持する配列です。<br>
+		 * null の位置には 0 が格納されます。
+		 */
+		public static final class LongVector extends Vector {
+
+			private long[] values$ = new long[0];
+
+			private LongVector() {}
+
+			@Override
+			void read$(BResultSet result, int index) {
+				if (size$ == values$.length) values$ = Arrays.copyOf(values$, grow$(size$));
+				values$[size$] = result.getLong(index);
+				if (result.wasNull()) setNull$(size$);
+				size$++;
+			}
+
+			/**
+			 * @param index 位置
+			 * @return 指定された位置の値
+			 */
+			public long get(int index) {
+				Objects.checkIndex(index, size$);
+				return values$[index];
+			}
+
+			/**
+			 * 保持している値を、件数と同じ長さの配列で返します。<br>
+			 * 返される配列は複製されていないので、変更しないでください。
+			 * @return 値の配列
+			 */
+			public long[] values() {
+				if (values$.length != size$) values$ = Arrays.copyOf(values$, size$);
+				return values$;
+			}
+		}
+
+		/**
+		 * int の値を保持する配列です。<br>
+		 * null の位置には 0 が格納されます。
+		 */
+		public static final class IntVector extends Vector {
+
+			private int[] values$ = new int[0];
+
+			private IntVector() {}
+
+			@Override
+			void read$(BResultSet result, int index) {
+				if (size$ == values$.length) values$ = Arrays.copyOf(values$, grow$(size$));
+				values$[size$] = result.getInt(index);
+				if (result.wasNull()) setNull$(size$);
+				size$++;
+			}
+
+			/**
+			 * @param index 位置
+			 * @return 指定された位置の値
+			 */
+			public int get(int index) {
+				Objects.checkIndex(index, size$);
+				return values$[index];
+			}
+
+			/**
+			 * 保持している値を、件数と同じ長さの配列で返します。<br>
+			 * 返される配列は複製されていないので、変更しないでください。
+			 * @return 値の配列
+			 */
+			public int[] values() {
+				if (values$.length != size$) values$ = Arrays.copyOf(values$, size$);
+				return values$;
+			}
+		}
+
+		/**
+		 * double の値を保持する配列です。<br>
+		 * null の位置には 0 が格納されます。
+		 */
+		public static final class DoubleVector extends Vector {
+
+			private double[] values$ = new double[0];
+
+			private DoubleVector() {}
+
+			@Override
+			void read$(BResultSet result, int index) {
+				if (size$ == values$.length) values$ = Arrays.copyOf(values$, grow$(size$));
+				values$[size$] = result.getDouble(index);
+				if (result.wasNull()) setNull$(size$);
+				size$++;
+			}
+
+			/**
+			 * @param index 位置
+			 * @return 指定された位置の値
+			 */
+			public double get(int index) {
+				Objects.checkIndex(index, size$);
+				return values$[index];
+			}
+
+			/**
+			 * 保持している値を、件数と同じ長さの配列で返します。<br>
+			 * 返される配列は複製されていないので、変更しないでください。
+			 * @return 値の配列
+			 */
+			public double[] values() {
+				if (values$.length != size$) values$ = Arrays.copyOf(values$, size$);
+				return values$;
+			}
+		}
+
+		/**
+		 * short の値を保持する配列です。<br>
+		 * null の位置には 0 が格納されます。
+		 */
+		public static final class ShortVector extends Vector {
+
+			private short[] values$ = new short[0];
+
+			private ShortVector() {}
+
+			@Override
+			void read$(BResultSet result, int index) {
+				if (size$ == values$.length) values$ = Arrays.copyOf(values$, grow$(size$));
+				values$[size$] = (short) result.getInt(index);
+				if (result.wasNull()) setNull$(size$);
+				size$++;
+			}
+
+			/**
+			 * @param index 位置
+			 * @return 指定された位置の値
+			 */
+			public short get(int index) {
+				Objects.checkIndex(index, size$);
+				return values$[index];
+			}
+
+			/**
+			 * 保持している値を、件数と同じ長さの配列で返します。<br>
+			 * 返される配列は複製されていないので、変更しないでください。
+			 * @return 値の配列
+			 */
+			public short[] values() {
+				if (values$.length != size$) values$ = Arrays.copyOf(values$, size$);
+				return values$;
+			}
+		}
+
+		/**
+		 * byte の値を保持する配列です。<br>
+		 * null の位置には 0 が格納されます。
+		 */
+		public static final class ByteVector extends Vector {
+
+			private byte[] values$ = new byte[0];
+
+			private ByteVector() {}
+
+			@Override
+			void read$(BResultSet result, int index) {
+				if (size$ == values$.length) values$ = Arrays.copyOf(values$, grow$(size$));
+				values$[size$] = (byte) result.getInt(index);
+				if (result.wasNull()) setNull$(size$);
+				size$++;
+			}
+
+			/**
+			 * @param index 位置
+			 * @return 指定された位置の値
+			 */
+			public byte get(int index) {
+				Objects.checkIndex(index, size$);
+				return values$[index];
+			}
+
+			/**
+			 * 保持している値を、件数と同じ長さの配列で返します。<br>
+			 * 返される配列は複製されていないので、変更しないでください。
+			 * @return 値の配列
+			 */
+			public byte[] values() {
+				if (values$.length != size$) values$ = Arrays.copyOf(values$, size$);
+				return values$;
+			}
+		}
+
+		/**
+		 * float の値を保持する配列です。<br>
+		 * null の位置には 0 が格納されます。
+		 */
+		public static final class FloatVector extends Vector {
+
+			private float[] values$ = new float[0];
+
+			private FloatVector() {}
+
+			@Override
+			void read$(BResultSet result, int index) {
+				if (size$ == values$.length) values$ = Arrays.copyOf(values$, grow$(size$));
+				values$[size$] = result.getFloat(index);
+				if (result.wasNull()) setNull$(size$);
+				size$++;
+			}
+
+			/**
+			 * @param index 位置
+			 * @return 指定された位置の値
+			 */
+			public float get(int index) {
+				Objects.checkIndex(index, size$);
+				return values$[index];
+			}
+
+			/**
+			 * 保持している値を、件数と同じ長さの配列で返します。<br>
+			 * 返される配列は複製されていないので、変更しないでください。
+			 * @return 値の配列
+			 */
+			public float[] values() {
+				if (values$.length != size$) values$ = Arrays.copyOf(values$, size$);
+				return values$;
+			}
+		}
+
+		/**
+		 * boolean の値を保持する配列です。<br>
+		 * null の位置には false が格納されます。
+		 */
+		public static final class BooleanVector extends Vector {
+
+			private boolean[] values$ = new boolean[0];
+
+			private BooleanVector() {}
+
+			@Override
+			void read$(BResultSet result, int index) {
+				if (size$ == values$.length) values$ = Arrays.copyOf(values$, grow$(size$));
+				values$[size$] = result.getBoolean(index);
+				if (result.wasNull()) setNull$(size$);
+				size$++;
+			}
+
+			/**
+			 * @param index 位置
+			 * @return 指定された位置の値
+			 */
+			public boolean get(int index) {
+				Objects.checkIndex(index, size$);
+				return values$[index];
+			}
+
+			/**
+			 * 保持している値を、件数と同じ長さの配列で返します。<br>
+			 * 返される配列は複製されていないので、変更しないでください。
+			 * @return 値の配列
+			 */
+			public boolean[] values() {
+				if (values$.length != size$) values$ = Arrays.copyOf(values$, size$);
+				return values$;
+			}
+		}
+
+		/**
+		 * 基本型以外の値を保持する配列です。
+		 * @param <T> 値の型
+		 */
+		public static final class ObjectVector<T> extends Vector {
+
+			private final BiFunction<BResultSet, Integer, T> reader$;
+
+			private Object[] values$ = new Object[0];
+
+			private ObjectVector(BiFunction<BResultSet, Integer, T> reader) {
+				reader$ = reader;
+			}
+
+			@Override
+			void read$(BResultSet result, int index) {
+				if (size$ == values$.length) values$ = Arrays.copyOf(values$, grow$(size$));
+				var value = reader$.apply(result, index);
+				values$[size$] = value;
+				if (value == null) setNull$(size$);
+				size$++;
+			}
+
+			/**
+			 * @param index 位置
+			 * @return 指定された位置の値
+			 */
+			@SuppressWarnings("unchecked")
+			public T get(int index) {
+				Objects.checkIndex(index, size$);
+				return (T) values$[index];
+			}
+
+			/**
+			 * @return 保持している値の、変更できない {@link List}
+			 */
+			@SuppressWarnings("unchecked")
+			public List<T> values() {
+				return (List<T>) Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(values$, size$)));
+			}
+
+			/**
+			 * 保持している値を、件数と同じ長さの新しい配列にコピーして返します。
+			 * @param generator 指定された長さの配列を生成する {@link IntFunction}
+			 * @return 値の配列
+			 */
+			public T[] toArray(IntFunction<T[]> generator) {
+				var array = generator.apply(size$);
+				System.arraycopy(values$, 0, array, 0, size$);
+				return array;
+			}
+		}
+	}
+
+	/**
+	 * このテーブルの {@link Row} を、ヒープ外の領域に固定長のレコードとして保持するバッファです。<br>
+	 * レコードのレイアウトは項目の型から生成時に決定され、可変長の値は補助領域に格納されます。<br>
+	 * 大量のレコードを保持しても、 GC の対象となるオブジェクトが増えることはありません。<br>
+	 * 数値、真偽値、文字列、バイト列、 BigDecimal 、 Timestamp 以外の型 (Object として保持される型) の値のみ、バッファ内にはヒープ上のリストの位置を保持し、値そのものはヒープ上に保持されます。<br>
+	 * ヒープ外の領域は {@link #close()} で参照を破棄した後、 GC の際に解放されるため、使用後は必ず close してください。<br>
+	 * このクラスはスレッドセーフではありません。
+	 */
+	public static class RowBuffer implements AutoCloseable {
+
+		private static final int NULLS$ = /*++[[NULL_BYTES]]++*//*--*/1/*--*/;
+
+		private static final int RECORD_SIZE$ = /*++[[ROW_BUFFER_RECORD_SIZE]]++*//*--*/9/*--*/;
+
+		private static final int PAGE_RECORDS$ = Math.max(1, (1 << 20) / RECORD_SIZE$);
+
+		private static final int AUX_PAGE_SIZE$ = 1 << 20;
+
+		private final List<ByteBuffer> pages$ = new ArrayList<>();
+
+		private final List<ByteBuffer> auxPages$ = new ArrayList<>();
+
+		private final List<Object> objects$ = new ArrayList<>();
+
+		private int size$;
+
+		private boolean closed$;
+
+		/**
+		 * {@link Row} の全項目の値を、末尾に追加します。
+		 * @param row 値を持つ {@link Row}
+		 */
+		public void add(Row row) {
+			if (closed$) throw new IllegalStateException("closed");
+
+			var index = size$;
+			if (index / PAGE_RECORDS$ == pages$.size()) pages$.add(ByteBuffer.allocateDirect(PAGE_RECORDS$ * RECORD_SIZE$));
+
+			var page = pages$.get(index / PAGE_RECORDS$);
+			var base = index % PAGE_RECORDS$ * RECORD_SIZE$;
+			for (var i = 0; i < NULLS$; i++) {
+				page.put(base + i, (byte) 0);
+			}
+
+			var data = row.data$;/*++[[ROW_BUFFER_WRITE_PART]]++*//*==RowBufferWritePart==*/
+			/*++[[PUT]]++*//*--*/putObject$/*--*/(page, base, /*++[[INDEX]]++*//*--*/0/*--*/, /*++[[OFFSET]]++*//*--*/NULLS$/*--*/, data.getValue("[[COLUMN]]").getValue());/*==RowBufferWritePart==*/
+
+			size$++;
+		}
+
+		/**
+		 * @return 保持しているレコードの数
+		 */
+		public int size() {
+			return size$;
+		}
+
+		/**
+		 * 指定された位置のレコードを参照する {@link View} を生成します。
+		 * @param index 位置
+		 * @return {@link View}
+		 */
+		public View get(int index) {
+			return new View().moveTo(index);
+		}
+
+		/**
+		 * 全レコードを順に走査します。<br>
+		 * 渡される {@link View} は同一のインスタンスが使いまわされるため、保持する場合は {@link View#toRow()} を使用してください。
+		 * @param consumer 各レコードを受け取る {@link Consumer}
+		 */
+		public void forEach(Consumer<View> consumer) {
+			var view = new View();
+			for (var i = 0; i < size$; i++) {
+				consumer.accept(view.moveTo(i));
+			}
+		}
+
+		/**
+		 * 全レコードを破棄します。<br>
+		 * レコード用の領域は再利用されます。
+		 */
+		public void clear() {
+			auxPages$.clear();
+			objects$.clear();
+			size$ = 0;
+		}
+
+		/**
+		 * 全レコードを破棄し、ヒープ外の領域への参照をすべて破棄します。<br>
+		 * 以降、レコードを追加することはできません。
+		 */
+		@Override
+		public void close() {
+			closed$ = true;
+			clear();
+			pages$.clear();
+		}
+
+		/**
+		 * {@link RowBuffer} 内のレコードを参照するフライウェイトです。<br>
+		 * 値は参照の都度、バッファから読み込まれます。
+		 */
+		public class View {
+
+			private ByteBuffer page$;
+
+			private int base$;
+
+			private int index$ = -1;
+
+			private View() {}
+
+			/**
+			 * 参照するレコードを変更します。
+			 * @param index 位置
+			 * @return この View
+			 */
+			public View moveTo(int index) {
+				Objects.checkIndex(index, size$);
+				page$ = pages$.get(index / PAGE_RECORDS$);
+				base$ = index % PAGE_RECORDS$ * RECORD_SIZE$;
+				index$ = index;
+				return this;
+			}
+
+			/**
+			 * @return 参照しているレコードの位置
+			 */
+			public int index() {
+				return index$;
+			}
+/*++[[ROW_BUFFER_GETTER_PART]]++*//*==RowBufferGetterPart==*/
+			/**
+			 * getter
+[[COMMENT_3]]
+			 * @return [[TYPE]]
+			 */
+			public /*++[[TYPE]]++*//*--*/Object/*--*/ get/*++[[METHOD]]++*/() {
+				return /*++[[CAST]]++*//*++[[GET]]++*//*--*/getObject$/*--*/(page$, base$, /*++[[INDEX]]++*//*--*/0/*--*/, /*++[[OFFSET]]++*//*--*/NULLS$/*--*/);
+			}
+/*==RowBufferGetterPart==*/
+			/**
+			 * 参照しているレコードの値を持つ、新しい {@link Row} を生成します。
+			 * @return {@link Row}
+			 */
+			public Row toRow() {
+				var row = new Row();/*++[[ROW_BUFFER_TO_ROW_PART]]++*//*==RowBufferToRowPart==*/
+				row.set/*++[[METHOD]]++*/(get/*++[[METHOD]]++*/());/*==RowBufferToRowPart==*/
+
+				return row;
+			}
+		}
+
+		private static void setNull$(ByteBuffer page, int base, int index) {
+			var position = base + (index >>> 3);
+			page.put(position, (byte) (page.get(position) | 1 << (index & 7)));
+		}
+
+		private static boolean isNull$(ByteBuffer page, int base, int index) {
+			return (page.get(base + (index >>> 3)) & 1 << (index & 7)) != 0;
+		}
+
+		private static void putLong$(ByteBuffer page, int base, int index, int offset, Object value) {
+			if (value == null) {
+				setNull$(page, base, index);
+			} else {
+				page.putLong(base + offset, ((Number) value).longValue());
+			}
+		}
+
+		private static Object getLong$(ByteBuffer page, int base, int index, int offset) {
+			return isNull$(page, base, index) ? null : page.getLong(base + offset);
+		}
+
+		private static void putInt$(ByteBuffer page, int base, int index, int offset, Object value) {
+			if (value == null) {
+				setNull$(page, base, index);
+			} else {
+				page.putInt(base + offset, ((Number) value).intValue());
+			}
+		}
+
+		private static Object getInt$(ByteBuffer page, int base, int index, int offset) {
+			return isNull$(page, base, index) ? null : page.getInt(base + offset);
+		}
+
+		private static void putDouble$(ByteBuffer page, int base, int index, int offset, Object value) {
+			if (value == null) {
+				setNull$(page, base, index);
+			} else {
+				page.putDouble(base + offset, ((Number) value).doubleValue());
+			}
+		}
+
+		private static Object getDouble$(ByteBuffer page, int base, int index, int offset) {
+			return isNull$(page, base, index) ? null : page.getDouble(base + offset);
+		}
+
+		private static void putBoolean$(ByteBuffer page, int base, int index, int offset, Object value) {
+			if (value == null) {
+				setNull$(page, base, index);
+			} else {
+				page.put(base + offset, (byte) ((Boolean) value ? 1 : 0));
+			}
+		}
+
+		private static Object getBoolean$(ByteBuffer page, int base, int index, int offset) {
+			return isNull$(page, base, index) ? null : page.get(base + offset) != 0;
+		}
+
+		private static void putTimestamp$(ByteBuffer page, int base, int index, int offset, Object value) {
+			if (value == null) {
+				setNull$(page, base, index);
+			} else {
+				var timestamp = (Timestamp) value;
+				page.putLong(base + offset, timestamp.getTime());
+				page.putInt(base + offset + 8, timestamp.getNanos());
+			}
+		}
+
+		private static Object getTimestamp$(ByteBuffer page, int base, int index, int offset) {
+			if (isNull$(page, base, index)) return null;
+
+			var timestamp = new Timestamp(page.getLong(base + offset));
+			timestamp.setNanos(page.getInt(base + offset + 8));
+			return timestamp;
+		}
+
+		private void putString$(ByteBuffer page, int base, int index, int offset, Object value) {
+			putBytes$(page, base, index, offset, value == null ? null : ((String) value).getBytes(StandardCharsets.UTF_8));
+		}
+
+		private Object getString$(ByteBuffer page, int base, int index, int offset) {
+			var bytes = (byte[]) getBytes$(page, base, index, offset);
+			return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		private void putBigDecimal$(ByteBuffer page, int base, int index, int offset, Object value) {
+			putString$(page, base, index, offset, value == null ? null : ((BigDecimal) value).toString());
+		}
+
+		private Object getBigDecimal$(ByteBuffer page, int base, int index, int offset) {
+			var string = (String) getString$(page, base, index, offset);
+			return string == null ? null : new BigDecimal(string);
+		}
+
+		private void putBytes$(ByteBuffer page, int base, int index, int offset, Object value) {
+			if (value == null) {
+				setNull$(page, base, index);
+				return;
+			}
+
+			var bytes = (byte[]) value;
+			var aux = auxPages$.isEmpty() ? null : auxPages$.get(auxPages$.size() - 1);
+			if (aux == null || aux.remaining() < bytes.length) {
+				aux = ByteBuffer.allocateDirect(Math.max(AUX_PAGE_SIZE$, bytes.length));
+				auxPages$.add(aux);
+			}
+
+			page.putInt(base + offset, auxPages$.size() - 1);
+			page.putInt(base + offset + 4, aux.position());
+			page.putInt(base + offset + 8, bytes.length);
+			aux.put(bytes);
+		}
+
+		private Object getBytes$(ByteBuffer page, int base, int index, int offset) {
+			if (isNull$(page, base, index)) return null;
+
+			var bytes = new byte[page.getInt(base + offset + 8)];
+			auxPages$.get(page.getInt(base + offset)).duplicate().position(page.getInt(base + offset + 4)).get(bytes);
+			return bytes;
+		}
+
+		private void putObject$(ByteBuffer page, int base, int index, int offset, Object value) {
+			if (value == null) {
+				setNull$(page, base, index);
+			} else {
+				page.putInt(base + offset, objects$.size());
+				objects$.add(value);
+			}
+		}
+
+		private Object getObject$(ByteBuffer page, int base, int index, int offset) {
+			return isNull$(page, base, index) ? null : objects$.get(page.getInt(base + offset));
+		}
+	}
+
+	/**
+	 * 検索結果を、 memoryBudget バイトまではメモリ上に、それを超える分は一時ファイルに保持して返します。<br>
+	 * レコードは {@link RowCodec} でバイナリに変換して保持され、一時ファイルはメモリマップして読み込まれます。<br>
+	 * 検索される項目はこのテーブルの全項目で、このインスタンスの SELECT 句は変更されません。<br>
+	 * 返された {@link SpillableRows} は、使用後に必ず close してください。
+	 * @param memoryBudget メモリ上に保持するバイト数の上限
+	 * @return 何度でも走査可能な検索結果
+	 * @throws UncheckedIOException 一時ファイルの書き込みに失敗した場合
+	 */
+	public SpillableRows retrieveSpillable(long memoryBudget) {
+		if (memoryBudget <= 0) throw new IllegalArgumentException("memoryBudget");
+
+		selectBehavior().checkRowMode();
+
+		var query = derive$(/*++[[SELECT_ALL]]++*//*--*/a -> a.ls(a.columnName)/*--*/, null, null);
+
+		var rows = new SpillableRows(memoryBudget);
+		try {
+			query$(query.sql(), statement -> query.complement(0, statement), result -> {
+				var mapper = new Mapper();
+				while (result.next()) {
+					rows.add$(mapper.map(result, 0));
+				}
+
+				return null;
+			});
+		} catch (RuntimeException e) {
+			rows.close();
+			throw e;
+		}
+
+		return rows;
+	}
+
+	/**
+	 * {@link #retrieveSpillable(long)} の検索結果です。<br>
+	 * {@link #iterator()} を呼び出すたびに、先頭から走査し直すことができます。<br>
+	 * close すると一時ファイルは削除されます。
+	 */
+	public static class SpillableRows implements Iterable<Row>, AutoCloseable {
+
+		private static final int WINDOW_SIZE$ = 64 << 20;
+
+		private static final int WRITE_BUFFER_SIZE$ = 1 << 20;
+
+		private final long memoryBudget$;
+
+		private final RowCodec codec$ = new RowCodec();
+
+		private ByteBuffer memory$;
+
+		private ByteBuffer record$ = ByteBuffer.allocate(1024);
+
+		private Path file$;
+
+		private FileChannel channel$;
+
+		/**
+		 * 一時ファイルへの書き込みをまとめるためのバッファ
+		 */
+		private ByteBuffer writeBuffer$;
+
+		private long fileSize$;
+
+		private int size$;
+
+		private SpillableRows(long memoryBudget) {
+			memoryBudget$ = Math.min(memoryBudget, Integer.MAX_VALUE - 8);
+			memory$ = ByteBuffer.allocate((int) Math.min(memoryBudget$, 1 << 16));
+		}
+
+		private void add$(Row row) {
+			while (true) {
+				try {
+					record$.clear();
+					codec$.encode(row, record$);
+					break;
+				} catch (BufferOverflowException e) {
+					record$ = ByteBuffer.allocate(record$.capacity() * 2);
+				}
+			}
+
+			record$.flip();
+
+			var length = Integer.BYTES + record$.remaining();
+			if (channel$ == null && memory$.position() + length <= memoryBudget$) {
+				if (memory$.remaining() < length) {
+					var grown = ByteBuffer.allocate((int) Math.min(Math.max(memory$.capacity() * 2L, memory$.position() + length), memoryBudget$));
+					memory$.flip();
+					memory$ = grown.put(memory$);
+				}
+
+				memory$.putInt(record$.remaining()).put(record$);
+			} else {
+				spill$(length);
+			}
+
+			size$++;
+		}
+
+		private void spill$(int length) {
+			try {
+				if (channel$ == null) {
+					file$ = Files.createTempFile("blendee-", ".rows");
+					channel$ = FileChannel.open(file$, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+					writeBuffer$ = ByteBuffer.allocate(WRITE_BUFFER_SIZE$);
+				}
+
+				if (writeBuffer$.remaining() < length) flush$();
+
+				writeBuffer$.putInt(length - Integer.BYTES);
+
+				//バッファより大きいレコードは、直接書き込む
+				if (writeBuffer$.remaining() < record$.remaining()) {
+					flush$();
+					write$(record$);
+				} else {
+					writeBuffer$.put(record$);
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+
+			fileSize$ += length;
+		}
+
+		private void flush$() throws IOException {
+			writeBuffer$.flip();
+			write$(writeBuffer$);
+			writeBuffer$.clear();
+		}
+
+		private void write$(ByteBuffer buffer) throws IOException {
+			while (buffer.hasRemaining()) {
+				channel$.write(buffer);
+			}
+		}
+
+		/**
+		 * @return 保持しているレコードの数
+		 */
+		public int size() {
+			return size$;
+		}
+
+		/**
+		 * @return 一時ファイルに書き出されたレコードがある場合 true
+		 */
+		public boolean isSpilled() {
+			return channel$ != null;
+		}
+
+		@Override
+		public java.util.Iterator<Row> iterator() {
+			if (memory$ == null) throw new IllegalStateException("closed");
+
+			//メモリマップして読み込む前に、バッファに残っている分を書き込む
+			if (writeBuffer$ != null && writeBuffer$.position() > 0) {
+				try {
+					flush$();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+
+			return new SpillIterator(memory$.duplicate().flip());
+		}
+
+		@Override
+		public void close() {
+			memory$ = null;
+			writeBuffer$ = null;
+
+			if (channel$ == null) return;
+
+			try {
+				channel$.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		private class SpillIterator implements java.util.Iterator<Row> {
+
+			private final ByteBuffer memory;
+
+			private ByteBuffer window;
+
+			private long windowStart;
+
+			private long filePosition;
+
+			private int remaining = size$;
+
+			private SpillIterator(ByteBuffer memory) {
+				this.memory = memory;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return remaining > 0;
+			}
+
+			@Override
+			public Row next() {
+				if (!hasNext()) throw new NoSuchElementException();
+
+				remaining--;
+
+				if (memory.hasRemaining()) {
+					var length = memory.getInt();
+					var record = memory.slice().limit(length);
+					memory.position(memory.position() + length);
+					return codec$.decode(record);
+				}
+
+				var length = window(filePosition, Integer.BYTES).getInt();
+				var record = window(filePosition + Integer.BYTES, length);
+				filePosition += Integer.BYTES + length;
+				return codec$.decode(record);
+			}
+
+			private ByteBuffer window(long position, int length) {
+				if (window == null || position < windowStart || position + length > windowStart + window.capacity()) {
+					try {
+						window = channel$.map(FileChannel.MapMode.READ_ONLY, position, Math.min(fileSize$ - position, Math.max(WINDOW_SIZE$, length)));
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+
+					windowStart = position;
+				}
+
+				return window.duplicate().position((int) (position - windowStart)).limit((int) (position - windowStart) + length);
+			}
+		}
+	}
+
+	/**
+	 * このテーブルの {@link Row} の全項目を、バイナリ形式に変換、復元するクラスです。<br>
+	 * 先頭に null を表すビット列を置き、 null 以外の値のみを項目の型ごとの形式で続けます。<br>
+	 * 整数と長さは可変長で、文字列は長さを前置した UTF-8 で表します。<br>
+	 * 固定の形式を持たない型の項目は、 String 、 byte[] 、 java.sql.Date 、 java.sql.Time の値のみ扱い、それ以外の値は例外となります。<br>
+	 * 変換、復元にリフレクションや Java のシリアライズは使用しません。<br>
+	 * ストリームを使用する変換、復元のため、インスタンスはスレッドセーフではありません。
+	 */
+	public static class RowCodec {
+
+		/**
+		 * テーブル名と、全項目の名前、型から算出した、形式の互換性を確認するための値
+		 */
+		public static final long FINGERPRINT = /*++[[FINGERPRINT]]++*//*--*/0L/*--*/;
+
+		private static final int NULLS$ = /*++[[NULL_BYTES]]++*//*--*/1/*--*/;
+
+		private final Relationship relationship = RelationshipFactory.getInstance().getInstance($TABLE);
+
+		private ByteBuffer buffer$ = ByteBuffer.allocate(1024);
+
+		/**
+		 * {@link Row} の全項目を、バッファの現在位置から書き込みます。
+		 * @param row 値を持つ {@link Row}
+		 * @param buffer 書き込み先
+		 * @throws BufferOverflowException バッファの残りが不足している場合
+		 * @throws IllegalStateException 扱えない型の値を持つ場合
+		 */
+		public void encode(Row row, ByteBuffer buffer) {
+			var start = buffer.position();
+			for (var i = 0; i < NULLS$; i++) {
+				buffer.put((byte) 0);
+			}
+
+			var data = row.data$;/*++[[CODEC_ENCODE_PART]]++*//*==CodecEncodePart==*/
+			/*++[[ENCODE]]++*//*--*/writeObject$/*--*/(buffer, start, /*++[[INDEX]]++*//*--*/0/*--*/, data.getValue("[[COLUMN]]").getValue());/*==CodecEncodePart==*/
+		}
+
+		/**
+		 * バッファの現在位置から {@link Row} を読み込みます。
+		 * @param buffer 読み込み元
+		 * @return {@link Row}
+		 */
+		public Row decode(ByteBuffer buffer) {
+			var start = buffer.position();
+			buffer.position(start + NULLS$);
+
+			var data = new DataObject(relationship);/*++[[CODEC_DECODE_PART]]++*//*==CodecDecodePart==*/
+			data.setValue("[[COLUMN]]", /*++[[DECODE]]++*//*--*/readObject$/*--*/(buffer, start, /*++[[INDEX]]++*//*--*/0/*--*/, /*++[[DB_TYPE]]++*//*--*/0/*--*/));/*==CodecDecodePart==*/
+			return new Row(data);
+		}
+
+		/**
+		 * {@link #FINGERPRINT} をストリームに書き込みます。<br>
+		 * 続けて書き込むレコードの形式を、読み込み側で {@link #readHeader(InputStream)} により確認するために使用します。
+		 * @param output 書き込み先
+		 * @throws IOException 書き込みに失敗した場合
+		 */
+		public void writeHeader(OutputStream output) throws IOException {
+			output.write(ByteBuffer.allocate(Long.BYTES).putLong(FINGERPRINT).array());
+		}
+
+		/**
+		 * ストリームから読み込んだ値が {@link #FINGERPRINT} と一致することを確認します。
+		 * @param input 読み込み元
+		 * @throws IOException 読み込みに失敗した場合
+		 * @throws IllegalStateException 形式が一致しない場合
+		 */
+		public void readHeader(InputStream input) throws IOException {
+			var bytes = input.readNBytes(Long.BYTES);
+			if (bytes.length != Long.BYTES) throw new EOFException();
+
+			if (ByteBuffer.wrap(bytes).getLong() != FINGERPRINT) throw new IllegalStateException("fingerprint");
+		}
+
+		/**
+		 * {@link Row} の全項目を、長さを前置してストリームに書き込みます。
+		 * @param row 値を持つ {@link Row}
+		 * @param output 書き込み先
+		 * @throws IOException 書き込みに失敗した場合
+		 */
+		public void encode(Row row, OutputStream output) throws IOException {
+			while (true) {
+				try {
+					buffer$.clear();
+					encode(row, buffer$);
+					break;
+				} catch (BufferOverflowException e) {
+					buffer$ = ByteBuffer.allocate(buffer$.capacity() * 2);
+				}
+			}
+
+			var length = buffer$.position();
+			for (var value = length; ; value >>>= 7) {
+				if ((value & ~0x7F) == 0) {
+					output.write(value);
+					break;
+				}
+
+				output.write(value & 0x7F | 0x80);
+			}
+
+			output.write(buffer$.array(), 0, length);
+		}
+
+		/**
+		 * {@link #encode(Row, OutputStream)} で書き込まれた {@link Row} を、ストリームから読み込みます。
+		 * @param input 読み込み元
+		 * @return {@link Row} 、ストリームが終端に達している場合 null
+		 * @throws IOException 読み込みに失敗した場合
+		 * @throws IllegalStateException 長さが不正な場合
+		 */
+		public Row decode(InputStream input) throws IOException {
+			var length = 0;
+			for (var shift = 0; ; shift += 7) {
+				//int の可変長表現は最大 5 バイト
+				if (shift > 28) throw new IllegalStateException("length");
+
+				var b = input.read();
+				if (b == -1) {
+					if (shift == 0) return null;
+					throw new EOFException();
+				}
+
+				length |= (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) break;
+			}
+
+			if (length < 0) throw new IllegalStateException("length");
+
+			var bytes = input.readNBytes(length);
+			if (bytes.length != length) throw new EOFException();
+
+			return decode(ByteBuffer.wrap(bytes));
+		}
+
+		private static boolean setNull$(ByteBuffer buffer, int start, int index, Object value) {
+			if (value != null) return false;
+
+			var position = start + (index >>> 3);
+			buffer.put(position, (byte) (buffer.get(position) | 1 << (index & 7)));
+			return true;
+		}
+
+		private static boolean isNull$(ByteBuffer buffer, int start, int index) {
+			return (buffer.get(start + (index >>> 3)) & 1 << (index & 7)) != 0;
+		}
+
+		private static void writeLong$(ByteBuffer buffer, int start, int index, Object value) {
+			if (!setNull$(buffer, start, index, value)) putVarLong$(buffer, ((Number) value).longValue());
+		}
+
+		private static Binder readLong$(ByteBuffer buffer, int start, int index, int type) {
+			return isNull$(buffer, start, index) ? new NullBinder(type) : new LongBinder(getVarLong$(buffer));
+		}
+
+		private static void writeInt$(ByteBuffer buffer, int start, int index, Object value) {
+			if (!setNull$(buffer, start, index, value)) putVarLong$(buffer, ((Number) value).intValue());
+		}
+
+		private static Binder readInt$(ByteBuffer buffer, int start, int index, int type) {
+			return isNull$(buffer, start, index) ? new NullBinder(type) : new IntBinder((int) getVarLong$(buffer));
+		}
+
+		private static void writeDouble$(ByteBuffer buffer, int start, int index, Object value) {
+			if (!setNull$(buffer, start, index, value)) buffer.putDouble(((Number) value).doubleValue());
+		}
+
+		private static Binder readDouble$(ByteBuffer buffer, int start, int index, int type) {
+			return isNull$(buffer, start, index) ? new NullBinder(type) : new DoubleBinder(buffer.getDouble());
+		}
+
+		private static void writeBoolean$(ByteBuffer buffer, int start, int index, Object value) {
+			if (!setNull$(buffer, start, index, value)) buffer.put((byte) ((Boolean) value ? 1 : 0));
+		}
+
+		private static Binder readBoolean$(ByteBuffer buffer, int start, int index, int type) {
+			return isNull$(buffer, start, index) ? new NullBinder(type) : new BooleanBinder(buffer.get() != 0);
+		}
+
+		private static void writeTimestamp$(ByteBuffer buffer, int start, int index, Object value) {
+			if (setNull$(buffer, start, index, value)) return;
+
+			var timestamp = (Timestamp) value;
+			putVarLong$(buffer, timestamp.getTime());
+			putVarLong$(buffer, timestamp.getNanos());
+		}
+
+		private static Binder readTimestamp$(ByteBuffer buffer, int start, int index, int type) {
+			if (isNull$(buffer, start, index)) return new NullBinder(type);
+
+			var timestamp = new Timestamp(getVarLong$(buffer));
+			timestamp.setNanos((int) getVarLong$(buffer));
+			return new TimestampBinder(timestamp);
+		}
+
+		private static void writeString$(ByteBuffer buffer, int start, int index, Object value) {
+			if (!setNull$(buffer, start, index, value)) putBytes$(buffer, ((String) value).getBytes(StandardCharsets.UTF_8));
+		}
+
+		private static Binder readString$(ByteBuffer buffer, int start, int index, int type) {
+			return isNull$(buffer, start, index) ? new NullBinder(type) : new StringBinder(new String(getBytes$(buffer), StandardCharsets.UTF_8));
+		}
+
+		private static void writeBigDecimal$(ByteBuffer buffer, int start, int index, Object value) {
+			if (!setNull$(buffer, start, index, value)) putBytes$(buffer, ((BigDecimal) value).toString().getBytes(StandardCharsets.US_ASCII));
+		}
+
+		private static Binder readBigDecimal$(ByteBuffer buffer, int start, int index, int type) {
+			return isNull$(buffer, start, index) ? new NullBinder(type) : new BigDecimalBinder(new BigDecimal(new String(getBytes$(buffer), StandardCharsets.US_ASCII)));
+		}
+
+		private static void writeBytes$(ByteBuffer buffer, int start, int index, Object value) {
+			if (!setNull$(buffer, start, index, value)) putBytes$(buffer, (byte[]) value);
+		}
+
+		private static Binder readBytes$(ByteBuffer buffer, int start, int index, int type) {
+			return isNull$(buffer, start, index) ? new NullBinder(type) : new ObjectBinder(getBytes$(buffer));
+		}
+
+		//固定の形式を持たない型の値は、型を表す 1 バイトに続けて、型ごとの形式で書き込む
+		//任意のクラスを復元できないよう、それ以外の型は扱わない
+		private static void writeObject$(ByteBuffer buffer, int start, int index, Object value) {
+			if (setNull$(buffer, start, index, value)) return;
+
+			if (value instanceof String) {
+				buffer.put((byte) 0);
+				putBytes$(buffer, ((String) value).getBytes(StandardCharsets.UTF_8));
+			} else if (value instanceof byte[]) {
+				buffer.put((byte) 1);
+				putBytes$(buffer, (byte[]) value);
+			} else if (value instanceof java.sql.Date) {
+				buffer.put((byte) 2);
+				putVarLong$(buffer, ((java.sql.Date) value).getTime());
+			} else if (value instanceof java.sql.Time) {
+				buffer.put((byte) 3);
+				putVarLong$(buffer, ((java.sql.Time) value).getTime());
+			} else {
+				throw new IllegalStateException("unsupported type: " + value.getClass().getName());
+			}
+		}
+
+		private static Binder readObject$(ByteBuffer buffer, int start, int index, int type) {
+			if (isNull$(buffer, start, index)) return new NullBinder(type);
+
+			var tag = buffer.get();
+			switch (tag) {
+			case 0:
+				return new ObjectBinder(new String(getBytes$(buffer), StandardCharsets.UTF_8));
+			case 1:
+				return new ObjectBinder(getBytes$(buffer));
+			case 2:
+				return new ObjectBinder(new java.sql.Date(getVarLong$(buffer)));
+			case 3:
+				return new ObjectBinder(new java.sql.Time(getVarLong$(buffer)));
+			default:
+				throw new IllegalStateException("type: " + tag);
+			}
+		}
+
+		private static void putBytes$(ByteBuffer buffer, byte[] bytes) {
+			putVarLong$(buffer, bytes.length);
+			buffer.put(bytes);
+		}
+
+		private static byte[] getBytes$(ByteBuffer buffer) {
+			var length = getVarLong$(buffer);
+			if (length < 0 || length > buffer.remaining()) throw new IllegalStateException("length");
+
+			var bytes = new byte[(int) length];
+			buffer.get(bytes);
+			return bytes;
+		}
+
+		//絶対値の小さい負数も短くなるよう、 ZigZag 符号化した値を 7 ビットずつ書き込む
+		private static void putVarLong$(ByteBuffer buffer, long value) {
+			var zigzag = value << 1 ^ value >> 63;
+			while ((zigzag & ~0x7FL) != 0) {
+				buffer.put((byte) (zigzag & 0x7F | 0x80));
+				zigzag >>>= 7;
+			}
+
+			buffer.put((byte) zigzag);
+		}
+
+		private static long getVarLong$(ByteBuffer buffer) {
+			var zigzag = 0L;
+			for (var shift = 0; ; shift += 7) {
+				//long の可変長表現は最大 10 バイト
+				if (shift > 63) throw new IllegalStateException("varint");
+
+				var b = buffer.get();
+				zigzag |= (long) (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) break;
+			}
+
+			return zigzag >>> 1 ^ -(zigzag & 1);
+		}
+	}
+
+	/**
+	 * 検索結果を、全項目を持つ CSV として出力します。<br>
+	 * レコードは一件ずつ読み込まれ、出力されます。<br>
+	 * 出力される項目はこのテーブルの全項目で、このインスタンスの SELECT 句は変更されません。
+	 * @param writer 出力先
+	 * @param header 先頭行に項目名を出力する場合 true
+	 * @throws UncheckedIOException 書き込みに失敗した場合
+	 */
+	public void exportCsv(Writer writer, boolean header) {
+		var csv = new CsvWriter(writer);
+		try {
+			if (header) csv.writeHeader();
+			retrieveMapped(row -> {
+				try {
+					csv.write(row);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+			csv.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 検索結果を、全項目を持つオブジェクトの JSON 配列として出力します。<br>
+	 * レコードは一件ずつ読み込まれ、出力されます。<br>
+	 * 出力される項目はこのテーブルの全項目で、このインスタンスの SELECT 句は変更されません。
+	 * @param writer 出力先
+	 * @throws UncheckedIOException 書き込みに失敗した場合
+	 */
+	public void exportJson(Writer writer) {
+		var json = new JsonWriter(writer);
+		try {
+			retrieveMapped(row -> {
+				try {
+					json.write(row);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+			json.finish();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	//Timestamp はタイムゾーンを持たないため、 ISO-8601 の日時 (オフセットなし) とする
+	private static String formatTimestamp$(Object value) {
+		return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(((Timestamp) value).toLocalDateTime());
+	}
+
+	/**
+	 * このテーブルの {@link Row} を、項目の定義順に CSV (RFC 4180) として書き込むクラスです。<br>
+	 * 値は項目の型ごとに変換され、 null は空の値となります。 Timestamp は ISO-8601 形式 (yyyy-MM-ddTHH:mm:ss) となります。
+	 */
+	public static class CsvWriter implements AutoCloseable {
+
+		private static final String HEADER$ = "/*++[[CSV_HEADER]]++*/";
+
+		private static final String LINE$ = "\r\n";
+
+		private final Writer writer$;
+
+		/**
+		 * インスタンスを生成します。
+		 * @param writer 出力先
+		 */
+		public CsvWriter(Writer writer) {
+			writer$ = Objects.requireNonNull(writer);
+		}
+
+		/**
+		 * インスタンスを生成します。<br>
+		 * 文字コードには UTF-8 が使用されます。
+		 * @param output 出力先
+		 */
+		public CsvWriter(OutputStream output) {
+			this(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)));
+		}
+
+		/**
+		 * 項目名の行を書き込みます。
+		 * @throws IOException 書き込みに失敗した場合
+		 */
+		public void writeHeader() throws IOException {
+			writer$.write(HEADER$);
+			writer$.write(LINE$);
+		}
+
+		/**
+		 * {@link Row} の全項目を一行として書き込みます。
+		 * @param row 値を持つ {@link Row}
+		 * @throws IOException 書き込みに失敗した場合
+		 */
+		public void write(Row row) throws IOException {
+			var data = row.data$;/*++[[CSV_WRITE_PART]]++*//*==CsvWritePart==*//*++[[DELIMITER]]++*/
+			/*++[[FORMAT]]++*//*--*/string$/*--*/(data.getValue("[[COLUMN]]").getValue());/*==CsvWritePart==*/
+			writer$.write(LINE$);
+		}
+
+		/**
+		 * 出力先を flush します。
+		 * @throws IOException 書き込みに失敗した場合
+		 */
+		public void flush() throws IOException {
+			writer$.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			writer$.close();
+		}
+
+		private void plain$(Object value) throws IOException {
+			if (value != null) writer$.write(value.toString());
+		}
+
+		private void decimal$(Object value) throws IOException {
+			if (value != null) writer$.write(((BigDecimal) value).toPlainString());
+		}
+
+		private void bytes$(Object value) throws IOException {
+			if (value != null) writer$.write(Base64.getEncoder().encodeToString((byte[]) value));
+		}
+
+		private void timestamp$(Object value) throws IOException {
+			if (value != null) writer$.write(formatTimestamp$(value));
+		}
+
+		private void string$(Object value) throws IOException {
+			if (value == null) return;
+
+			var string = value.toString();
+			if (string.indexOf(',') == -1 && string.indexOf('"') == -1 && string.indexOf('\r') == -1 && string.indexOf('\n') == -1) {
+				writer$.write(string);
+				return;
+			}
+
+			writer$.write('"');
+			writer$.write(string.replace("\"", "\"\""));
+			writer$.write('"');
+		}
+	}
+
+	/**
+	 * このテーブルの {@link Row} を、項目名をキーとするオブジェクトの JSON 配列として書き込むクラスです。<br>
+	 * 値は項目の型ごとに変換され、 Timestamp は ISO-8601 形式 (yyyy-MM-ddTHH:mm:ss) の文字列となります。<br>
+	 * 全件の書き込み後に {@link #finish()} または {@link #close()} を呼び出すことで、配列が閉じられます。
+	 */
+	public static class JsonWriter implements AutoCloseable {
+
+		private final Writer writer$;
+
+		private boolean started$;
+
+		private boolean finished$;
+
+		/**
+		 * インスタンスを生成します。
+		 * @param writer 出力先
+		 */
+		public JsonWriter(Writer writer) {
+			writer$ = Objects.requireNonNull(writer);
+		}
+
+		/**
+		 * インスタンスを生成します。<br>
+		 * 文字コードには UTF-8 が使用されます。
+		 * @param output 出力先
+		 */
+		public JsonWriter(OutputStream output) {
+			this(new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8)));
+		}
+
+		/**
+		 * {@link Row} の全項目を、配列の要素として書き込みます。
+		 * @param row 値を持つ {@link Row}
+		 * @throws IOException 書き込みに失敗した場合
+		 */
+		public void write(Row row) throws IOException {
+			if (finished$) throw new IllegalStateException("finished");
+
+			writer$.write(started$ ? ",\n" : "[\n");
+			started$ = true;
+
+			var data = row.data$;/*++[[JSON_WRITE_PART]]++*//*==JsonWritePart==*/
+			writer$.write(/*++[[KEY]]++*//*--*/"{\"columnName\":"/*--*/);
+			/*++[[FORMAT]]++*//*--*/string$/*--*/(data.getValue("[[COLUMN]]").getValue());/*==JsonWritePart==*/
+			writer$.write('}');
+		}
+
+		/**
+		 * 配列を閉じ、出力先を flush します。<br>
+		 * 出力先は close されません。
+		 * @throws IOException 書き込みに失敗した場合
+		 */
+		public void finish() throws IOException {
+			if (finished$) return;
+
+			writer$.write(started$ ? "\n]" : "[]");
+			writer$.flush();
+			finished$ = true;
+		}
+
+		@Override
+		public void close() throws IOException {
+			finish();
+			writer$.close();
+		}
+
+		private void plain$(Object value) throws IOException {
+			writer$.write(value == null ? "null" : value.toString());
+		}
+
+		private void number$(Object value) throws IOException {
+			if (value == null) {
+				writer$.write("null");
+				return;
+			}
+
+			//JSON の数値として表せない NaN 、無限大は文字列とする
+			var number = ((Number) value).doubleValue();
+			if (Double.isFinite(number)) {
+				writer$.write(value.toString());
+			} else {
+				string$(value);
+			}
+		}
+
+		private void decimal$(Object value) throws IOException {
+			writer$.write(value == null ? "null" : ((BigDecimal) value).toPlainString());
+		}
+
+		private void bytes$(Object value) throws IOException {
+			if (value == null) {
+				writer$.write("null");
+				return;
+			}
+
+			writer$.write('"');
+			writer$.write(Base64.getEncoder().encodeToString((byte[]) value));
+			writer$.write('"');
+		}
+
+		private void timestamp$(Object value) throws IOException {
+			if (value == null) {
+				writer$.write("null");
+				return;
+			}
+
+			writer$.write('"');
+			writer$.write(formatTimestamp$(value));
+			writer$.write('"');
+		}
+
+		private void string$(Object value) throws IOException {
+			if (value == null) {
+				writer$.write("null");
+				return;
+			}
+
+			writer$.write('"');
+
+			var string = value.toString();
+			for (var i = 0; i < string.length(); i++) {
+				var c = string.charAt(i);
+				switch (c) {
+				case '"':
+					writer$.write("\\\"");
+					break;
+				case '\\':
+					writer$.write("\\\\");
+					break;
+				case '\n':
+					writer$.write("\\n");
+					break;
+				case '\r':
+					writer$.write("\\r");
+					break;
+				case '\t':
+					writer$.write("\\t");
+					break;
+				default:
+					if (c < 0x20) {
+						writer$.write(String.format("\\u%04x", (int) c));
+					} else {
+						writer$.write(c);
+					}
+				}
+			}
+
+			writer$.write('"');
+		}
+	}
+
+	private static final String[] insertColumns$ = { /*++[[INSERT_COLUMN_NAMES]]++*//*--*/""/*--*/ };
+
+	/**
+	 * 各 {@link Row} の値が設定されている項目を INSERT します。<br>
+	 * 値が設定されていない項目 (自動採番される項目、デフォルト値を持つ項目等) は INSERT 文に含まれず、データベース側で値が決定されます。<br>
+	 * 値は項目の型ごとの setter で直接設定され、汎用の {@link Binder} を経由しません。<br>
+	 * INSERT 文は設定されている項目の組み合わせごとに一度だけ生成され、すべての INSERT は一度のバッチとして実行されます。
+	 * @param rows 対象となる Row
+	 * @return 各 INSERT の更新件数
+	 */
+	public static int[] insertAll(Collection<Row> rows) {
+		var batch = BlendeeManager.getConnection().getBatchStatement();
+
+		//値が設定されている項目の組み合わせごとの INSERT 文と項目
+		var shapes = new HashMap<BitSet, InsertShape$>();
+		var assigned = new BitSet(insertColumns$.length);
+		for (var row : rows) {
+			var data = row.data$;
+
+			assigned.clear();
+			for (var i = 0; i < insertColumns$.length; i++) {
+				if (data.getValue(insertColumns$[i]) != null) assigned.set(i);
+			}
+
+			if (assigned.cardinality() == insertColumns$.length) {
+				batch.addBatch(InsertShape$.ALL, statement -> StatementBinder.insert(statement, row));
+				continue;
+			}
+
+			if (assigned.isEmpty()) throw new IllegalArgumentException("rows");
+
+			var shape = shapes.get(assigned);
+			if (shape == null) {
+				shape = new InsertShape$(assigned);
+				shapes.put(shape.assigned, shape);
+			}
+
+			var columns = shape.columns;
+			batch.addBatch(shape.sql, statement -> {
+				for (var i = 0; i < columns.length; i++) {
+					StatementBinder.set$(statement, i + 1, columns[i], data.getValue(columns[i]).getValue());
+				}
+			});
+		}
+
+		return modify$(batch::executeBatch);
+	}
+
+	private static class InsertShape$ {
+
+		private static final String ALL = "INSERT INTO " + $TABLE + " (/*++[[INSERT_COLUMNS]]++*/) VALUES (/*++[[INSERT_PLACEHOLDERS]]++*/)";
+
+		private final BitSet assigned;
+
+		private final String[] columns;
+
+		private final String sql;
+
+		private InsertShape$(BitSet assigned) {
+			this.assigned = (BitSet) assigned.clone();
+			columns = assigned.stream().mapToObj(i -> insertColumns$[i]).toArray(String[]::new);
+			sql = "INSERT INTO " + $TABLE + " (" + String.join(", ", columns) + ") VALUES (" + String.join(", ", Collections.nCopies(columns.length, "?")) + ")";
+		}
+	}
+/*--?UPDATE--*/
+	/**
+	 * 各 {@link Row} の主キー以外の全項目を、主キーを条件に UPDATE します。<br>
+	 * 値は項目の型ごとの setter で直接設定され、汎用の {@link Binder} を経由しません。<br>
+	 * すべての UPDATE は一度のバッチとして実行されます。
+	 * @param rows 対象となる Row
+	 * @return 各 UPDATE の更新件数
+	 */
+	public static int[] updateAll(Collection<Row> rows) {
+		var sql = "UPDATE " + $TABLE + " SET /*++[[UPDATE_SET]]++*/ WHERE /*++[[UPDATE_WHERE]]++*/";
+
+		var batch = BlendeeManager.getConnection().getBatchStatement();
+		rows.forEach(row -> batch.addBatch(sql, statement -> StatementBinder.update(statement, row)));
+
+		return modify$(batch::executeBatch);
+	}
+
+	//SQL Server の上限 2100 を下回る値
+	private static volatile int bulkUpdateParameterLimit$ = 2000;
+
+	/**
+	 * このテーブルの {@link #updateBulk(Collection, String...)} で、ひとつの UPDATE 文に含めるプレースホルダの上限を設定します。<br>
+	 * デフォルトは 2000 です。
+	 * @param parameterLimit プレースホルダの上限
+	 */
+	public static void setBulkUpdateParameterLimit(int parameterLimit) {
+		if (parameterLimit <= 0) throw new IllegalArgumentException("parameterLimit");
+		bulkUpdateParameterLimit$ = parameterLimit;
+	}
+
+	/**
+	 * 各 {@link Row} の columnNames の項目を、主キーで値を切り替える CASE 式を使用した UPDATE 文でまとめて更新します。<br>
+	 * ひとつの UPDATE 文のプレースホルダが {@link #setBulkUpdateParameterLimit(int)} の上限を超えない件数ごとに実行されます。
+	 * @param rows 対象となる Row
+	 * @param columnNames 更新する項目名 (このクラスの項目名定数) 、主キーは指定できません
+	 * @return 更新件数
+	 * @see #updateBulk(int, Collection, String...)
+	 */
+	public static int updateBulk(Collection<Row> rows, String... columnNames) {
+		return updateBulk(bulkUpdateParameterLimit$, rows, columnNames);
+	}
+
+	/**
+	 * 各 {@link Row} の columnNames の項目を、主キーで値を切り替える CASE 式を使用した UPDATE 文でまとめて更新します。<br>
+	 * UPDATE [[TABLE]] SET column = CASE pk WHEN ? THEN ? ... ELSE column END WHERE pk IN (?, ...)<br>
+	 * ひとつの UPDATE 文のプレースホルダが parameterLimit を超えない件数ごとに実行されます。<br>
+	 * 値は項目の型ごとの setter で直接設定され、汎用の {@link Binder} を経由しません。
+	 * @param parameterLimit ひとつの UPDATE 文に含めるプレースホルダの上限
+	 * @param rows 対象となる Row
+	 * @param columnNames 更新する項目名 (このクラスの項目名定数) 、主キーは指定できません
+	 * @return 更新件数
+	 */
+	public static int updateBulk(int parameterLimit, Collection<Row> rows, String... columnNames) {
+		if (columnNames.length == 0) throw new IllegalArgumentException("columnNames");
+
+		//SQL に埋め込む前に、このテーブルの項目であることを確認する
+		var columns = Arrays.asList(insertColumns$);
+		var primaryKeyColumns = Arrays.asList(primaryKeyColumns$);
+		var checked = new HashSet<String>();
+		for (var column : columnNames) {
+			if (!columns.contains(column) || primaryKeyColumns.contains(column) || !checked.add(column)) throw new IllegalArgumentException(column);
+		}
+
+		//一件あたり、項目ごとの WHEN 句に主キーと値、 WHERE 句に主キー
+		var parametersPerRow = columnNames.length * (primaryKeyColumns$.length + 1) + primaryKeyColumns$.length;
+		var chunkSize = parameterLimit / parametersPerRow;
+		if (chunkSize <= 0) throw new IllegalArgumentException("parameterLimit");
+
+		var list = new ArrayList<>(rows);
+		var updated = 0;
+		for (var i = 0; i < list.size(); i += chunkSize) {
+			var chunk = list.subList(i, Math.min(i + chunkSize, list.size()));
+			updated += update$(bulkUpdateSQL$(chunk.size(), columnNames), statement -> {
+				var index = 1;
+				for (var column : columnNames) {
+					for (var row : chunk) {
+						index = bindPrimaryKey$(statement, index, row);
+						StatementBinder.set$(statement, index++, column, row.data$.getValue(column).getValue());
+					}
+				}
+
+				for (var row : chunk) {
+					index = bindPrimaryKey$(statement, index, row);
+				}
+			});
+		}
+
+		return updated;
+	}
+
+	private static String bulkUpdateSQL$(int rows, String[] columnNames) {
+		var single = primaryKeyColumns$.length == 1;
+
+		var conditions = new LinkedList<String>();
+		for (var column : primaryKeyColumns$) {
+			conditions.add(column + " = ?");
+		}
+
+		var condition = String.join(" AND ", conditions);
+
+		var sql = new StringBuilder("UPDATE ").append($TABLE).append(" SET ");
+		for (var i = 0; i < columnNames.length; i++) {
+			if (i > 0) sql.append(", ");
+
+			var column = columnNames[i];
+			sql.append(column).append(" = CASE");
+			if (single) sql.append(' ').append(primaryKeyColumns$[0]);
+
+			for (var j = 0; j < rows; j++) {
+				sql.append(" WHEN ").append(single ? "?" : condition).append(" THEN ?");
+			}
+
+			//値の型を項目の型に揃えるため、 ELSE に項目自身を置く
+			sql.append(" ELSE ").append(column).append(" END");
+		}
+
+		sql.append(" WHERE ");
+		if (single) {
+			sql.append(primaryKeyColumns$[0]).append(" IN (").append(String.join(", ", Collections.nCopies(rows, "?"))).append(')');
+		} else {
+			sql.append(String.join(" OR ", Collections.nCopies(rows, "(" + condition + ")")));
+		}
+
+		return sql.toString();
+	}
+
+	private static int bindPrimaryKey$(BPreparedStatement statement, int index, Row row) {
+		for (var column : primaryKeyColumns$) {
+			StatementBinder.set$(statement, index++, column, row.data$.getValue(column).getValue());
+		}
+
+		return index;
+	}
+
+	private static int update$(String sql, PreparedStatementComplementer complementer) {
+		return modify$(() -> {
+			try (var statement = BlendeeManager.getConnection().getStatement(sql, complementer)) {
+				return statement.executeUpdate();
+			}
+		});
+	}
+/*--?UPDATE--*/
+	/**
+	 * {@link Row} の値を、項目の型ごとの setter で {@link BPreparedStatement} に設定するクラスです。
+	 */
+	public static class StatementBinder {
+
+		/**
+		 * INSERT 文のプレースホルダに、全項目の値を定義順に設定します。
+		 * @param statement 設定対象
+		 * @param row 値を持つ Row
+		 */
+		public static void insert(BPreparedStatement statement, Row row) {
+			var data = row.data$;/*++[[INSERT_BINDER_PART]]++*//*==StatementBinderPart==*/
+			/*++[[WRITE]]++*//*--*/setObject$(statement, 1, data.getValue("columnName").getValue(), 0)/*--*/;/*==StatementBinderPart==*/
+		}
+
+		/**
+		 * 項目名で指定された項目の値を、その項目の型の setter で設定します。
+		 * @param statement 設定対象
+		 * @param index プレースホルダの位置
+		 * @param columnName 項目名 (このクラスの項目名定数)
+		 * @param value 値
+		 */
+		public static void set$(BPreparedStatement statement, int index, String columnName, Object value) {
+			switch (columnName) {/*++[[BULK_SET_PART]]++*//*==BulkSetPart==*/
+			case "[[COLUMN]]":
+				/*++[[SETTER]]++*//*--*/setObject$/*--*/(statement, index, value, /*++[[DB_TYPE]]++*//*--*/0/*--*/);
+				break;/*==BulkSetPart==*/
+			default:
+				throw new IllegalArgumentException(columnName);
+			}
+		}
+/*--?UPDATE--*/
+		/**
+		 * UPDATE 文のプレースホルダに、主キー以外の全項目の値を定義順に設定し、続けて主キーの値を設定します。
+		 * @param statement 設定対象
+		 * @param row 値を持つ Row
+		 */
+		public static void update(BPreparedStatement statement, Row row) {
+			var data = row.data$;/*++[[UPDATE_BINDER_PART]]++*/
+		}
+/*--?UPDATE--*/
+		private static void setLong$(BPreparedStatement statement, int index, Object value, int type) {
+			if (value == null) {
+				statement.setNull(index, type);
+			} else {
+				statement.setLong(index, ((Number) value).longValue());
+			}
+		}
+
+		private static void setInt$(BPreparedStatement statement, int index, Object value, int type) {
+			if (value == null) {
+				statement.setNull(index, type);
+			} else {
+				statement.setInt(index, ((Number) value).intValue());
+			}
+		}
+
+		private static void setDouble$(BPreparedStatement statement, int index, Object value, int type) {
+			if (value == null) {
+				statement.setNull(index, type);
+			} else {
+				statement.setDouble(index, ((Number) value).doubleValue());
+			}
+		}
+
+		private static void setBoolean$(BPreparedStatement statement, int index, Object value, int type) {
+			if (value == null) {
+				statement.setNull(index, type);
+			} else {
+				statement.setBoolean(index, (Boolean) value);
+			}
+		}
+
+		private static void setString$(BPreparedStatement statement, int index, Object value, int type) {
+			if (value == null) {
+				statement.setNull(index, type);
+			} else {
+				statement.setString(index, (String) value);
+			}
+		}
+
+		private static void setBigDecimal$(BPreparedStatement statement, int index, Object value, int type) {
+			if (value == null) {
+				statement.setNull(index, type);
+			} else {
+				statement.setBigDecimal(index, (BigDecimal) value);
+			}
+		}
+
+		private static void setTimestamp$(BPreparedStatement statement, int index, Object value, int type) {
+			if (value == null) {
+				statement.setNull(index, type);
+			} else {
+				statement.setTimestamp(index, (Timestamp) value);
+			}
+		}
+
+		private static void setObject$(BPreparedStatement statement, int index, Object value, int type) {
+			if (value == null) {
+				statement.setNull(index, type);
+			} else {
+				statement.setObject(index, value);
+			}
+		}
+	}
+/*--?TREE--*/
+	private static final String[] treeKeyColumns$ = { /*++[[TREE_KEY_COLUMNS]]++*//*--*/""/*--*/ };
+
+	private static final String[] treeParentColumns$ = { /*++[[TREE_PARENT_COLUMNS]]++*//*--*/""/*--*/ };
+
+	//自動生成時に設定された再帰共通表式の開始キーワード、 null の場合は階層ごとに検索する
+	private static final String recursiveKeyword$ = /*++[[RECURSIVE_KEYWORD]]++*//*--*/"WITH RECURSIVE"/*--*/;
+
+	//自動生成時に設定された、再帰共通表式に OPTION (MAXRECURSION n) を付加するかどうか
+	private static final boolean maxRecursionOption$ = /*++[[MAX_RECURSION_OPTION]]++*//*--*/false/*--*/;
+
+	//SQL Server の再帰の上限 (MAXRECURSION) のデフォルトと同じ値
+	private static final int treeMaxDepth$ = 100;
+
+	/**
+	 * 自身を参照する外部キー [[TREE_FK]] をたどり、起点となるレコードとその子孫を、起点から 100 階層まで検索します。<br>
+	 * 再帰共通表式を使用し、一度の検索で取得します (自動生成時に再帰共通表式を使用しない設定とした場合は階層ごとに検索します) 。<br>
+	 * 結果は起点からの階層の浅い順に並びます。
+	 * @param key 起点となるレコードの参照先項目 ([[TREE_KEY_NAMES]]) の値
+	 * @return 起点となるレコードと子孫
+	 * @see #fetchDescendants(Object[], int)
+	 */
+	public static List<Row> fetchDescendants(Object... key) {
+		return fetchDescendants(key, treeMaxDepth$);
+	}
+
+	/**
+	 * 自身を参照する外部キー [[TREE_FK]] をたどり、起点となるレコードとその子孫を、起点から maxDepth 階層まで検索します。<br>
+	 * 再帰共通表式を使用し、一度の検索で取得します (自動生成時に再帰共通表式を使用しない設定とした場合は階層ごとに検索します) 。<br>
+	 * 参照が循環している場合でも、検索は maxDepth 階層で終了します。<br>
+	 * 結果は起点からの階層の浅い順に並びます。
+	 * @param key 起点となるレコードの参照先項目 ([[TREE_KEY_NAMES]]) の値
+	 * @param maxDepth 起点を 0 とした、検索する最大の階層
+	 * @return 起点となるレコードと子孫
+	 */
+	public static List<Row> fetchDescendants(Object[] key, int maxDepth) {
+		return tree$(key, maxDepth, "[[TREE_DESCENDANT_JOIN]]", treeParentColumns$, treeKeyColumns$);
+	}
+
+	/**
+	 * 自身を参照する外部キー [[TREE_FK]] をたどり、起点となるレコードとその祖先を、起点から 100 階層まで検索します。<br>
+	 * 再帰共通表式を使用し、一度の検索で取得します (自動生成時に再帰共通表式を使用しない設定とした場合は階層ごとに検索します) 。<br>
+	 * 結果は起点からの階層の浅い順 (起点、親、その親 …) に並びます。
+	 * @param key 起点となるレコードの参照先項目 ([[TREE_KEY_NAMES]]) の値
+	 * @return 起点となるレコードと祖先
+	 * @see #fetchAncestors(Object[], int)
+	 */
+	public static List<Row> fetchAncestors(Object... key) {
+		return fetchAncestors(key, treeMaxDepth$);
+	}
+
+	/**
+	 * 自身を参照する外部キー [[TREE_FK]] をたどり、起点となるレコードとその祖先を、起点から maxDepth 階層まで検索します。<br>
+	 * 再帰共通表式を使用し、一度の検索で取得します (自動生成時に再帰共通表式を使用しない設定とした場合は階層ごとに検索します) 。<br>
+	 * 参照が循環している場合でも、検索は maxDepth 階層で終了します。<br>
+	 * 結果は起点からの階層の浅い順 (起点、親、その親 …) に並びます。
+	 * @param key 起点となるレコードの参照先項目 ([[TREE_KEY_NAMES]]) の値
+	 * @param maxDepth 起点を 0 とした、検索する最大の階層
+	 * @return 起点となるレコードと祖先
+	 */
+	public static List<Row> fetchAncestors(Object[] key, int maxDepth) {
+		return tree$(key, maxDepth, "[[TREE_ANCESTOR_JOIN]]", treeKeyColumns$, treeParentColumns$);
+	}
+
+	/**
+	 * @param join 再帰部分の結合条件
+	 * @param matchColumns 階層ごとの検索で、前の階層の値と照合する項目
+	 * @param valueColumns 階層ごとの検索で、次の階層の検索に使用する前の階層の項目
+	 */
+	private static List<Row> tree$(Object[] key, int maxDepth, String join, String[] matchColumns, String[] valueColumns) {
+		if (key.length != treeKeyColumns$.length) throw new IllegalArgumentException("key");
+		if (maxDepth < 0) throw new IllegalArgumentException("maxDepth");
+
+		var keyword = recursiveKeyword$;
+		if (keyword == null) return levels$(key, maxDepth, matchColumns, valueColumns);
+
+		var table = $TABLE.toString();
+
+		var sql = keyword + " blendee_tree ([[INSERT_COLUMNS]], blendee_level) AS ("
+			+ "SELECT [[INSERT_COLUMNS]], 0 FROM " + table + " WHERE [[TREE_ROOT]]"
+			+ " UNION ALL "
+			+ "SELECT [[TREE_CHILD_COLUMNS]], blendee_parent.blendee_level + 1 FROM " + table + " blendee_child JOIN blendee_tree blendee_parent ON " + join
+			//参照が循環していても再帰が終了するよう、階層を制限する
+			+ " WHERE blendee_parent.blendee_level < ?"
+			+ ") SELECT [[INSERT_COLUMNS]] FROM blendee_tree ORDER BY blendee_level";
+
+		//MAXRECURSION はリテラルのみ指定可能で、上限は 32767 (0 は無制限、階層は上の条件で制限される)
+		if (maxRecursionOption$) sql += " OPTION (MAXRECURSION " + (maxDepth < 32767 ? maxDepth + 1 : 0) + ")";
+
+		return query$(sql, statement -> statement.setInt(bindTree$(statement, 1, key), maxDepth), result -> {
+			var mapper = new Mapper();
+			var rows = new ArrayList<Row>();
+			while (result.next()) {
+				rows.add(mapper.map(result, 0));
+			}
+
+			return rows;
+		});
+	}
+
+	/**
+	 * 再帰共通表式を使用できない場合の、階層ごとの検索
+	 */
+	private static List<Row> levels$(Object[] key, int maxDepth, String[] matchColumns, String[] valueColumns) {
+		var rows = new ArrayList<Row>();
+
+		//参照が循環していても終了するよう、取得済みのレコードは再度たどらない
+		var visited = new HashSet<List<Object>>();
+
+		var level = selectTree$(treeKeyColumns$, Collections.singletonList(key));
+		for (var depth = 0; !level.isEmpty(); depth++) {
+			var values = new ArrayList<Object[]>();
+			for (var row : level) {
+				if (!visited.add(Arrays.asList(treeValues$(row, treeKeyColumns$)))) continue;
+
+				rows.add(row);
+
+				if (depth == maxDepth) continue;
+
+				var value = treeValues$(row, valueColumns);
+				if (Arrays.asList(value).contains(null)) continue;
+
+				values.add(value);
+			}
+
+			level = new ArrayList<>();
+			for (var i = 0; i < values.size(); i += batchLoadSize$) {
+				level.addAll(selectTree$(matchColumns, values.subList(i, Math.min(i + batchLoadSize$, values.size()))));
+			}
+		}
+
+		return rows;
+	}
+
+	private static List<Row> selectTree$(String[] columns, List<Object[]> values) {
+		var condition = String.join(" AND ", Arrays.stream(columns).map(column -> column + " = ?").toArray(String[]::new));
+
+		var sql = "SELECT [[INSERT_COLUMNS]] FROM " + $TABLE + " WHERE "
+			+ String.join(" OR ", Collections.nCopies(values.size(), "(" + condition + ")"));
+
+		return query$(sql, statement -> {
+			var index = 1;
+			for (var value : values) {
+				index = bindTree$(statement, index, value);
+			}
+		}, result -> {
+			var mapper = new Mapper();
+			var rows = new ArrayList<Row>();
+			while (result.next()) {
+				rows.add(mapper.map(result, 0));
+			}
+
+			return rows;
+		});
+	}
+
+	private static int bindTree$(BPreparedStatement statement, int index, Object[] values) {
+		for (var value : values) {
+			statement.setObject(index++, value);
+		}
+
+		return index;
+	}
+
+	private static Object[] treeValues$(Row row, String[] columns) {
+		var values = new Object[columns.length];
+		for (var i = 0; i < columns.length; i++) {
+			values[i] = row.data$.getValue(columns[i]).getValue();
+		}
+
+		return values;
+	}
+/*--?TREE--*//*--?FK--*/
+	private static final int batchLoadSize$ = 1000;
+
+	/**
+	 * 外部キーと参照先の型が異なっても同じ値であれば等しくなるよう、 {@link #normalize$(Object)} で揃えたキー
+	 */
+	private static Object key$(DataObject data, String... columns) {
+		if (columns.length == 1) return normalize$(data.getValue(columns[0]).getValue());
+
+		var values = new ArrayList<Object>(columns.length);
+		for (var column : columns) {
+			var value = normalize$(data.getValue(column).getValue());
+
+			//複合キーの一部が null の場合、参照先は存在しない
+			if (value == null) return null;
+
+			values.add(value);
+		}
+
+		return values;
+	}
+/*--?FK--*//*++[[BATCH_LOAD_PART]]++*//*==BatchLoadPart==*/
+	/**
+	 * 参照先テーブル [[REFERENCE]] のレコードを、まとめて検索し各 Row に設定します。<br>
+	 * 設定された Row は {@link Row#[[METHOD]]()} で取得できます。<br>
+	 * 外部キー名 [[FK]]<br>
+	 * 項目名 [[FK_COLUMNS]]
+	 * @param rows 対象となる Row
+	 */
+	public static void /*++load[[METHOD]]++*//*--*/loadRelatedRow/*--*/(Collection<Row> rows) {
+		/*++load[[METHOD]]++*//*--*/loadRelatedRow/*--*/(rows, batchLoadSize$);
+	}
+
+	/**
+	 * 参照先テーブル [[REFERENCE]] のレコードを、まとめて検索し各 Row に設定します。<br>
+	 * 設定された Row は {@link Row#[[METHOD]]()} で取得できます。<br>
+	 * 外部キー名 [[FK]]<br>
+	 * 項目名 [[FK_COLUMNS]]
+	 * @param rows 対象となる Row
+	 * @param batchSize 一度の検索で条件に含める参照先キーの最大数 (参照先が参照データとしてメモリ上に読み込み済みの場合、検索は行われません)
+	 */
+	public static void /*++load[[METHOD]]++*//*--*/loadRelatedRow/*--*/(Collection<Row> rows, int batchSize) {
+		if (batchSize <= 0) throw new IllegalArgumentException("batchSize");
+
+		var keyMap = new LinkedHashMap<Object, List<Row>>();
+		rows.forEach(row -> {
+			var key = key$(row.data$, /*++[[ANNOTATION_FK_COLUMNS]]++*//*--*/""/*--*/);
+			if (key != null) keyMap.computeIfAbsent(key, k -> new LinkedList<>()).add(row);
+		});
+/*--?SNAPSHOT--*/
+		//参照先が参照データとしてメモリ上に読み込み済みの場合、検索せずに解決する
+		var snapshot = /*++[[REFERENCE_PACKAGE]].[[REFERENCE]]++*//*--*/TableFacadeTemplate/*--*/.loadedSnapshot();
+		if (snapshot.isPresent()) {
+			keyMap.forEach((key, targets) -> snapshot.get().get(key instanceof List ? ((List<?>) key).toArray() : new Object[] { key })
+				.ifPresent(related -> targets.forEach(row -> row.relate$(/*++[[REFERENCE_FIELD]]$[[FK]]++*//*--*/FK/*--*/, key, related))));
+			return;
+		}
+/*--?SNAPSHOT--*/
+		var keys = new ArrayList<>(keyMap.keySet());
+		for (var i = 0; i < keys.size(); i += batchSize) {
+			var chunk = keys.subList(i, Math.min(i + batchSize, keys.size()));
+			try (var iterator = new /*++[[REFERENCE_PACKAGE]].[[REFERENCE]]++*//*--*/TableFacadeTemplate/*--*/().WHERE(
+				/*++[[REFERENCE_CRITERIA]]++*//*--*/a -> a.columnName.IN(chunk.toArray())/*--*/).retrieve()) {
+				iterator.forEachRemaining(related -> {
+					var key = key$(related.dataObject(), /*++[[REF_COLUMNS]]++*//*--*/""/*--*/);
+					var targets = keyMap.get(key);
+					if (targets != null) targets.forEach(row -> row.relate$(/*++[[REFERENCE_FIELD]]$[[FK]]++*//*--*/FK/*--*/, key, related));
+				});
+			}
+		}
+	}
+/*==BatchLoadPart==*/
+	private static final int inListSize$ = 1000;
+/*++[[UNIQUE_INDEX_PART]]++*//*==UniqueIndexPart==*/
+	/**
+	 * 一意インデックス [[INDEX]] を使用して、レコードを一件検索します。<br>
+	 * 項目名 [[INDEX_COLUMNS]]
+[[PARAM_COMMENTS]]
+	 * @return {@link Row}
+	 */
+	public static Optional<Row> /*++fetchBy[[METHOD]]++*//*--*/fetchByColumnName/*--*/(/*++[[PARAMETERS]]++*//*--*/Object columnName/*--*/) {
+		//引数名と重複しないよう、ローカル変数名には $ を付加する
+		try (var iterator$ = new /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/().WHERE(
+			/*++[[CRITERIA]]++*//*--*/assist$ -> assist$.columnName.eq(columnName)/*--*/).retrieve()) {
+			return iterator$.hasNext() ? Optional.of(iterator$.next()) : Optional.empty();
+		}
+	}
+/*==UniqueIndexPart==*//*++[[INDEX_PART]]++*//*==IndexPart==*/
+	/**
+	 * インデックス [[INDEX]] の先頭項目 [[COLUMN]] の値が、指定された値のいずれかに一致するレコードを検索します。<br>
+	 * 値の数が多い場合、一度の検索で条件に含める値の数を制限し、複数回に分けて検索します。
+	 * @param values 検索する値
+	 * @return 検索結果
+	 */
+	public static List<Row> /*++findBy[[METHOD]]In++*//*--*/findByColumnNameIn/*--*/(Collection<? extends /*++[[TYPE]]++*//*--*/Object/*--*/> values) {
+		var rows$ = new ArrayList<Row>();
+		var list$ = new ArrayList<>(values);
+		for (var i$ = 0; i$ < list$.size(); i$ += inListSize$) {
+			var chunk$ = list$.subList(i$, Math.min(i$ + inListSize$, list$.size()));
+			try (var iterator$ = new /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/().WHERE(
+				assist$ -> assist$./*++[[COLUMN]]++*//*--*/columnName/*--*/.IN(chunk$.toArray())).retrieve()) {
+				iterator$.forEachRemaining(rows$::add);
+			}
+		}
+
+		return rows$;
+	}
+/*==IndexPart==*/
+	/**
+	 * この {@link SelectStatement} のテーブルを表す {@link TableFacadeAssist} を参照するためのインスタンスです。
+	 * @return assist
+	 */
+	public ExtAssist<TableFacadeColumn, Void> assist() {
+		return new ExtAssist<>(this, TableFacadeContext.OTHER, CriteriaContext.NULL);
+	}
+
+	/**
+	 * SELECT 句を作成する {@link Consumer}
+	 * @param consumer {@link Consumer}
+	 * @return this
+	 */
+	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ selectClause(Consumer<ListSelectAssist> consumer) {
+		selectBehavior().selectClause(consumer);
+		selectReplay$ = b -> b.selectClause(consumer);
+		selected$ = true;
+		return this;
+	}
+
+	/**
+	 * GROUP BY 句を作成する {@link Consumer}
+	 * @param consumer {@link Consumer}
+	 * @return this
+	 */
+	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ groupByClause(Consumer<ListGroupByAssist> consumer) {
+		selectBehavior().groupByClause(consumer);
+		return this;
+	}
+
+	/**
+	 * GROUP BY 句を作成する {@link Consumer}
+	 * @param consumer {@link Consumer}
+	 * @return this
+	 */
+	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ orderByClause(Consumer<ListOrderByAssist> consumer) {
+		selectBehavior().orderByClause(consumer);
+		return this;
+	}
+
+	/**
+	 * SELECT 句を記述します。
+	 * @param function
+	 * @return この {@link SelectStatement}
+	 */
+	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ SELECT(
+		SelectOfferFunction<SelectAssist> function) {
+		selectBehavior().SELECT(function);
+		selectReplay$ = b -> b.SELECT(function);
+		selected$ = true;
+		return this;
+	}
+
+	/**
+	 * DISTINCT を使用した SELECT 句を記述します。
+	 * @param function
+	 * @return この {@link SelectStatement}
+	 */
+	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ SELECT_DISTINCT(
+		SelectOfferFunction<SelectAssist> function) {
+		selectBehavior().SELECT_DISTINCT(function);
+		selectReplay$ = b -> b.SELECT_DISTINCT(function);
+		selected$ = true;
+		return this;
+	}
+
+	/**
+	 * COUNT(*) を使用した SELECT 句を記述します。
+	 * @return この {@link SelectStatement}
+	 */
+	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ SELECT_COUNT() {
+		selectBehavior().SELECT_COUNT();
+		selectReplay$ = b -> b.SELECT_COUNT();
+		selected$ = true;
+		return this;
+	}
+
+	/**
+	 * GROUP BY 句を記述します。
+	 * @param function
+	 * @return この {@link SelectStatement}
+	 */
+	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ GROUP_BY(
+		GroupByOfferFunction<GroupByAssist> function) {
+		selectBehavior().GROUP_BY(function);
+		return this;
+	}
+
+	/**
+	 * WHERE 句を記述します。
+	 * @param consumers
+	 * @return この {@link SelectStatement}
+	 */
+	@SafeVarargs
+	public final /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ WHERE(
+		Consumer<WhereAssist>... consumers) {
+		selectBehavior().WHERE(consumers);
+		return this;
+	}
+
+	/**
+	 * WHERE 句で使用できる {@link  Criteria} を作成します。
+	 * @param consumer {@link Consumer}
+	 * @return {@link Criteria}
+	 */
+	public Criteria createWhereCriteria(
+		Consumer<WhereAssist> consumer) {
+		return selectBehavior().createWhereCriteria(consumer);
+	}
+
+	/**
+	 * HAVING 句を記述します。
+	 * @param consumers
+	 * @return この {@link SelectStatement}
+	 */
+	@SafeVarargs
+	public final /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ HAVING(
+		Consumer<HavingAssist>... consumers) {
+		selectBehavior().HAVING(consumers);
+		return this;
+	}
+
+	/**
+	 * HAVING 句で使用できる {@link  Criteria} を作成します。
+	 * @param consumer {@link Consumer}
+	 * @return {@link Criteria}
+	 */
+	public Criteria createHavingCriteria(
+		Consumer<HavingAssist> consumer) {
+		return selectBehavior().createHavingCriteria(consumer);
+	}
+
+	/**
+	 * このクエリに INNER JOIN で別テーブルを結合します。
+	 * @param right 別クエリ
+	 * @return ON
+	 */
+	public <R extends OnRightClauseAssist<?>> OnClause<OnLeftAssist, R, /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/> INNER_JOIN(RightTable<R> right) {
+		return selectBehavior().INNER_JOIN(right, this);
+	}
+
+	/**
+	 * このクエリに LEFT OUTER JOIN で別テーブルを結合します。
+	 * @param right 別クエリ
+	 * @return ON
+	 */
+	public <R extends OnRightClauseAssist<?>> OnClause<OnLeftAssist, R, /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/> LEFT_OUTER_JOIN(RightTable<R> right) {
+		return selectBehavior().LEFT_OUTER_JOIN(right, this);
+	}
+
+	/**
+	 * このクエリに RIGHT OUTER JOIN で別テーブルを結合します。
+	 * @param right 別クエリ
+	 * @return ON
+	 */
+	public <R extends OnRightClauseAssist<?>> OnClause<OnLeftAssist, R, /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/> RIGHT_OUTER_JOIN(RightTable<R> right) {
 		return selectBehavior().RIGHT_OUTER_JOIN(right, this);
 	}
 
 	/**
-	 * このクエリに FULL OUTER JOIN で別テーブルを結合します。
-	 * @param right 別クエリ
-	 * @return ON
+	 * このクエリに FULL OUTER JOIN で別テーブルを結合します。
+	 * @param right 別クエリ
+	 * @return ON
+	 */
+	public <R extends OnRightClauseAssist<?>> OnClause<OnLeftAssist, R, /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/> FULL_OUTER_JOIN(RightTable<R> right) {
+		return selectBehavior().FULL_OUTER_JOIN(right, this);
+	}
+
+	/**
+	 * このクエリに CROSS JOIN で別テーブルを結合します。
+	 * @param right 別クエリ
+	 * @return この {@link SelectStatement}
+	 */
+	public <R extends OnRightClauseAssist<?>> /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ CROSS_JOIN(RightTable<R> right) {
+		selectBehavior().CROSS_JOIN(right);
+		return this;
+	}
+
+	/**
+	 * UNION するクエリを追加します。<br>
+	 * 追加する側のクエリには ORDER BY 句を設定することはできません。
+	 * @param select UNION 対象
+	 * @return この {@link SelectStatement}
+	 */
+	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ UNION(SelectStatement select) {
+		selectBehavior().UNION(select);
+		return this;
+	}
+
+	/**
+	 * UNION ALL するクエリを追加します。<br>
+	 * 追加する側のクエリには ORDER BY 句を設定することはできません。
+	 * @param select UNION ALL 対象
+	 * @return この {@link SelectStatement}
+	 */
+	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ UNION_ALL(SelectStatement select) {
+		selectBehavior().UNION_ALL(select);
+		return this;
+	}
+
+	/**
+	 * INTERSECT するクエリを追加します。<br>
+	 * 追加する側のクエリには ORDER BY 句を設定することはできません。
+	 * @param select INTERSECT 対象
+	 * @return この {@link SelectStatement}
+	 */
+	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ INTERSECT(SelectStatement select) {
+		selectBehavior().INTERSECT(select);
+		return this;
+	}
+
+	/**
+	 * INTERSECT ALL するクエリを追加します。<br>
+	 * 追加する側のクエリには ORDER BY 句を設定することはできません。
+	 * @param select INTERSECT ALL 対象
+	 * @return この {@link SelectStatement}
+	 */
+	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ INTERSECT_ALL(SelectStatement select) {
+		selectBehavior().INTERSECT_ALL(select);
+		return this;
+	}
+
+	/**
+	 * EXCEPT するクエリを追加します。<br>
+	 * 追加する側のクエリには ORDER BY 句を設定することはできません。
+	 * @param select EXCEPT 対象
+	 * @return この {@link SelectStatement}
+	 */
+	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ EXCEPT(SelectStatement select) {
+		selectBehavior().INTERSECT(select);
+		return this;
+	}
+
+	/**
+	 * EXCEPT ALL するクエリを追加します。<br>
+	 * 追加する側のクエリには ORDER BY 句を設定することはできません。
+	 * @param select EXCEPT ALL 対象
+	 * @return この {@link SelectStatement}
+	 */
+	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ EXCEPT_ALL(SelectStatement select) {
+		selectBehavior().EXCEPT_ALL(select);
+		return this;
+	}
+
+	/**
+	 * ORDER BY 句を記述します。
+	 * @param function
+	 * @return この {@link SelectStatement}
+	 */
+	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ ORDER_BY(
+		OrderByOfferFunction<OrderByAssist> function) {
+		selectBehavior().ORDER_BY(function);
+		return this;
+	}
+
+	@Override
+	public boolean hasWhereClause() {
+		return selectBehavior().hasWhereClause();
+	}
+
+	/**
+	 * 新規に GROUP BY 句をセットします。
+	 * @param clause 新 ORDER BY 句
+	 * @return {@link SelectStatement} 自身
+	 * @throws IllegalStateException 既に ORDER BY 句がセットされている場合
+	 */
+	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ setGroupByClause(GroupByClause clause) {
+		selectBehavior().setGroupByClause(clause);
+		return this;
+	}
+
+	/**
+	 * 新規に ORDER BY 句をセットします。
+	 * @param clause 新 ORDER BY 句
+	 * @return {@link SelectStatement} 自身
+	 * @throws IllegalStateException 既に ORDER BY 句がセットされている場合
+	 */
+	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ setOrderByClause(OrderByClause clause) {
+		selectBehavior().setOrderByClause(clause);
+		return this;
+	}
+
+	/**
+	 * 現時点の WHERE 句に新たな条件を AND 結合します。<br>
+	 * AND 結合する対象がなければ、新条件としてセットされます。
+	 * @param criteria AND 結合する新条件
+	 * @return {@link SelectStatement} 自身
+	 */
+	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ and(Criteria criteria) {
+		selectBehavior().and(criteria);
+		return this;
+	}
+
+	/**
+	 * 現時点の WHERE 句に新たな条件を OR 結合します。<br>
+	 * OR 結合する対象がなければ、新条件としてセットされます。
+	 * @param criteria OR 結合する新条件
+	 * @return {@link SelectStatement} 自身
+	 */
+	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ or(Criteria criteria) {
+		selectBehavior().or(criteria);
+		return this;
+	}
+
+	/**
+	 * 生成された SQL 文を加工する {SQLDecorator} を設定します。
+	 * @param decorators {@link SQLDecorator}
+	 * @return {@link SelectStatement} 自身
+	 */
+	@Override
+	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ accept(SQLDecorator... decorators) {
+		for (SQLDecorator decorator : decorators) {
+			this.decorators$.add(decorator);
+		}
+
+		return this;
+	}
+
+	@Override
+	public SelectContext getSelectContext() {
+		return selectBehavior().getSelectContext();
+	}
+
+	@Override
+	public GroupByClause getGroupByClause() {
+		return selectBehavior().getGroupByClause();
+	}
+
+	@Override
+	public OrderByClause getOrderByClause() {
+		return selectBehavior().getOrderByClause();
+	}
+
+	@Override
+	public Criteria getWhereClause() {
+		return selectBehavior().getWhereClause();
+	}
+
+	@Override
+	public Relationship getRootRealtionship() {
+		return relationship$;
+	}
+
+	@Override
+	public LogicalOperators<WhereAssist> getWhereLogicalOperators() {
+		return selectBehavior().whereOperators();
+	}
+
+	@Override
+	public LogicalOperators<HavingAssist> getHavingLogicalOperators() {
+		return selectBehavior().havingOperators();
+	}
+
+	@Override
+	public LogicalOperators<OnLeftAssist> getOnLeftLogicalOperators() {
+		return selectBehavior().onLeftOperators();
+	}
+
+	@Override
+	public OnRightLogicalOperators getOnRightLogicalOperators() {
+		return onRightOperators$ == null ? (onRightOperators$ = new OnRightLogicalOperators()) : onRightOperators$;
+	}
+
+	@Override
+	public SQLDecorator[] decorators() {
+		return decorators$.toArray(new SQLDecorator[decorators$.size()]);
+	}
+
+	@Override
+	public Iterator retrieve() {
+		var selectBehavior = selectBehavior();
+		selectBehavior.checkRowMode();
+
+		var cache = queryCache$;
+
+		//全項目を持つ検索結果のみを扱う
+		if (cache == null || selected$) return wrap(selectBehavior.query().retrieve());
+
+		var key = queryKey$(sql(), currentBinders());
+
+		@SuppressWarnings("unchecked")
+		var cached = (List<DataObject>) cache.get(key);
+		if (cached != null) return new Iterator(cached);
+
+		//検索結果は読み込みながら記録し、最後まで読み込まれた場合のみキャッシュする
+		return new Iterator(selectBehavior.query().retrieve(), new Recorder(cache, key));
+	}
+
+	/**
+	 * {@link Iterator} で読み込まれた検索結果を、 {@link QueryCache} に保持するために記録するクラスです。<br>
+	 * 記録した件数が {@link QueryCache} の合計最大件数を、または推定サイズが合計最大サイズを超えた場合、記録を中止します。
+	 */
+	private static class Recorder {
+
+		private final QueryCache cache;
+
+		private final List<Object> key;
+
+		private final long version;
+
+		private final List<DataObject> rows = new ArrayList<>();
+
+		private long bytes;
+
+		private Recorder(QueryCache cache, List<Object> key) {
+			this.cache = cache;
+			this.key = key;
+			version = cache.version();
+		}
+
+		/**
+		 * 記録を継続できない場合は false
+		 */
+		private boolean record(DataObject data) {
+			if (rows.size() >= cache.maximumRows) return false;
+
+			bytes += estimateBytes$(data);
+			if (bytes > cache.maximumBytes) return false;
+
+			rows.add(copy$(data));
+			return true;
+		}
+
+		private void complete() {
+			cache.put(key, rows, Math.max(rows.size(), 1), bytes, version);
+		}
+	}
+
+	/**
+	 * 検索結果を逐次読み込む {@link Stream} を返します。<br>
+	 * 検索は {@link Stream} の終端操作が開始された時点で実行されます。<br>
+	 * 並列処理時の切り出し単位には {@link #setDefaultSplitSize(int)} で設定された値が使用されます。<br>
+	 * 返された {@link Stream} は、使用後に必ず close してください。
+	 * @return {@link Row} の {@link Stream}
+	 */
+	public Stream<Row> stream() {
+		return stream(defaultSplitSize$);
+	}
+
+	/**
+	 * 検索結果を逐次読み込む {@link Stream} を返します。<br>
+	 * 検索は {@link Stream} の終端操作が開始された時点で実行されます。<br>
+	 * 並列処理時には splitSize 件ずつ検索結果から切り出されます。<br>
+	 * splitSize は JDBC のフェッチサイズではありません。フェッチサイズは接続側の設定に従います。<br>
+	 * 返された {@link Stream} は、使用後に必ず close してください。
+	 * @param splitSize 並列処理時に一度に切り出す件数
+	 * @return {@link Row} の {@link Stream}
+	 */
+	public Stream<Row> stream(int splitSize) {
+		if (splitSize <= 0) throw new IllegalArgumentException("splitSize");
+
+		var spliterator = new RowSpliterator(this::retrieve, splitSize);
+		return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+	}
+
+	/**
+	 * このテーブルの {@link #stream()} で使用される並列処理時の切り出し単位を設定します。
+	 * @param splitSize 並列処理時に一度に切り出す件数
+	 */
+	public static void setDefaultSplitSize(int splitSize) {
+		if (splitSize <= 0) throw new IllegalArgumentException("splitSize");
+		defaultSplitSize$ = splitSize;
+	}
+
+	private static volatile int defaultSplitSize$ = 1000;
+
+	private static class RowSpliterator implements Spliterator<Row> {
+
+		private final Supplier<Iterator> supplier;
+
+		private final int splitSize;
+
+		private Iterator iterator;
+
+		private boolean closed;
+
+		private RowSpliterator(Supplier<Iterator> supplier, int splitSize) {
+			this.supplier = supplier;
+			this.splitSize = splitSize;
+		}
+
+		private Iterator iterator() {
+			if (closed) throw new IllegalStateException("closed");
+			if (iterator == null) iterator = supplier.get();
+			return iterator;
+		}
+
+		private void close() {
+			closed = true;
+			if (iterator != null) iterator.close();
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super Row> action) {
+			var iterator = iterator();
+			if (!iterator.hasNext()) return false;
+
+			action.accept(iterator.next());
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super Row> action) {
+			iterator().forEachRemaining(action);
+		}
+
+		@Override
+		public Spliterator<Row> trySplit() {
+			var iterator = iterator();
+			if (!iterator.hasNext()) return null;
+
+			var rows = new Row[splitSize];
+			var size = 0;
+			while (size < splitSize && iterator.hasNext()) {
+				rows[size++] = iterator.next();
+			}
+
+			return Spliterators.spliterator(rows, 0, size, characteristics());
+		}
+
+		@Override
+		public long estimateSize() {
+			return Long.MAX_VALUE;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | NONNULL;
+		}
+	}
+
+/*--?PK--*/
+	private static final String[] primaryKeyColumns$ = { /*++[[PK_COLUMNS]]++*//*--*/""/*--*/ };
+
+	private static volatile IntFunction<SQLDecorator> limitDecorator$ = limit -> sql -> sql + " LIMIT " + limit;
+
+	/**
+	 * このテーブルで検索件数の上限を指定する際に使用する {@link SQLDecorator} を設定します。<br>
+	 * デフォルトでは SQL の末尾に LIMIT 句を追加します。
+	 * @param decorator 上限件数から {@link SQLDecorator} を生成する {@link IntFunction}
+	 */
+	public static void setLimitDecorator(IntFunction<SQLDecorator> decorator) {
+		limitDecorator$ = Objects.requireNonNull(decorator);
+	}
+
+	/**
+	 * 主キーの値が primaryKeyMembers より大きいレコードを、主キーの昇順に最大 limit 件検索します。<br>
+	 * このインスタンスの WHERE 句に主キーの条件を加え、 ORDER BY 句を主キーの昇順に置き換えて検索しますが、このインスタンスの状態は変更されません。
+	 * @param primaryKeyMembers 前ページ最後のレコードの主キーの値 (主キーの定義順) 、先頭ページの場合は null
+	 * @param limit 最大件数
+	 * @return 検索結果
+	 */
+	public List<Row> seekAfter(Object[] primaryKeyMembers, int limit) {
+		if (limit <= 0) throw new IllegalArgumentException("limit");
+		if (primaryKeyMembers != null && primaryKeyMembers.length != primaryKeyColumns$.length) throw new IllegalArgumentException("primaryKeyMembers");
+
+		selectBehavior().checkRowMode();
+
+		return list$(seekQuery$(null, primaryKeyMembers, limit).retrieve());
+	}
+
+	/**
+	 * このインスタンスの検索結果を、主キーの昇順に pageSize 件ずつ取得する {@link java.util.Iterator} を返します。<br>
+	 * 各ページは前ページ最後のレコードの主キーを条件に検索されるため、後方のページでも検索コストは変わりません。<br>
+	 * 各ページは {@link #seekAfter(Object[], int)} と同様に検索され、このインスタンスの状態は変更されません。<br>
+	 * ページの取得中は、このインスタンスの条件を変更しないでください。<br>
+	 * また、 SELECT 句には主キーが含まれている必要があり、 HAVING 句は使用できません。
+	 * @param pageSize 一ページの件数
+	 * @return ページの {@link java.util.Iterator}
+	 */
+	public java.util.Iterator<List<Row>> pages(int pageSize) {
+		if (pageSize <= 0) throw new IllegalArgumentException("pageSize");
+
+		selectBehavior().checkRowMode();
+
+		return new KeysetPages(null, pageSize);
+	}
+
+	private Query seekQuery$(SelectOfferFunction<SelectAssist> select, Object[] primaryKeyMembers, int limit) {
+		return derive$(
+			select,
+			primaryKeyMembers == null ? null : seekCriteria$(primaryKeyMembers),
+			orderByPrimaryKey$(),
+			limitDecorator$.apply(limit));
+	}
+
+	private class KeysetPages implements java.util.Iterator<List<Row>> {
+
+		private final SelectOfferFunction<SelectAssist> select;
+
+		private final int pageSize;
+
+		private Object[] lastKey;
+
+		private List<Row> page;
+
+		private boolean done;
+
+		private KeysetPages(SelectOfferFunction<SelectAssist> select, int pageSize) {
+			this.select = select;
+			this.pageSize = pageSize;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (page == null && !done) {
+				page = list$(seekQuery$(select, lastKey, pageSize).retrieve());
+
+				if (page.size() < pageSize) done = true;
+
+				if (page.size() > 0) lastKey = primaryKey$(page.get(page.size() - 1).data$);
+			}
+
+			return page != null && page.size() > 0;
+		}
+
+		@Override
+		public List<Row> next() {
+			if (!hasNext()) throw new NoSuchElementException();
+
+			var result = page;
+			page = null;
+			return result;
+		}
+	}
+
+	/**
+	 * このインスタンスの WHERE 句に該当するレコードを、主キーの昇順に chunkSize 件ずつ DELETE します。<br>
+	 * 各チャンクは、主キーの検索と DELETE をひとつのトランザクションで実行し、チャンクごとにコミットされます。<br>
+	 * そのため、トランザクション外から呼び出してください。
+	 * @param chunkSize 一度に DELETE する件数
+	 * @return DELETE された件数
+	 * @throws IllegalStateException トランザクション内から呼び出された場合
+	 * @see #deleteInChunks(int, Duration, IntConsumer)
+	 */
+	public int deleteInChunks(int chunkSize) {
+		return deleteInChunks(chunkSize, Duration.ZERO, processed -> {});
+	}
+
+	/**
+	 * このインスタンスの WHERE 句に該当するレコードを、主キーの昇順に chunkSize 件ずつ DELETE します。<br>
+	 * 各チャンクは、主キーの検索と DELETE をひとつのトランザクションで実行し、チャンクごとにコミットされます。<br>
+	 * そのため、トランザクション外から呼び出してください。<br>
+	 * 主キーの検索には、このインスタンスの SELECT 句、 ORDER BY 句は使用されず、変更もされません。
+	 * @param chunkSize 一度に DELETE する件数
+	 * @param pause チャンクごとの待機時間
+	 * @param progress チャンクごとに、それまでに DELETE された件数を受け取る {@link IntConsumer}
+	 * @return DELETE された件数
+	 * @throws IllegalStateException トランザクション内から呼び出された場合
+	 */
+	public int deleteInChunks(int chunkSize, Duration pause, IntConsumer progress) {
+		return inChunks$(chunkSize, pause, progress, keys -> new /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/().DELETE().WHERE(primaryKeyCriteria$(keys)).execute());
+	}
+
+	/**
+	 * このインスタンスの WHERE 句に該当するレコードを、主キーの昇順に chunkSize 件ずつ UPDATE します。<br>
+	 * 各チャンクは、主キーの検索と UPDATE をひとつのトランザクションで実行し、チャンクごとにコミットされます。<br>
+	 * そのため、トランザクション外から呼び出してください。
+	 * @param consumer SET 句
+	 * @param chunkSize 一度に UPDATE する件数
+	 * @return UPDATE された件数
+	 * @throws IllegalStateException トランザクション内から呼び出された場合
+	 * @see #updateInChunks(Consumer, int, Duration, IntConsumer)
+	 */
+	public int updateInChunks(Consumer<UpdateAssist> consumer, int chunkSize) {
+		return updateInChunks(consumer, chunkSize, Duration.ZERO, processed -> {});
+	}
+
+	/**
+	 * このインスタンスの WHERE 句に該当するレコードを、主キーの昇順に chunkSize 件ずつ UPDATE します。<br>
+	 * 各チャンクは、主キーの検索と UPDATE をひとつのトランザクションで実行し、チャンクごとにコミットされます。<br>
+	 * そのため、トランザクション外から呼び出してください。<br>
+	 * 主キーの検索には、このインスタンスの SELECT 句、 ORDER BY 句は使用されず、変更もされません。<br>
+	 * consumer では主キーの値を変更しないでください。
+	 * @param consumer SET 句
+	 * @param chunkSize 一度に UPDATE する件数
+	 * @param pause チャンクごとの待機時間
+	 * @param progress チャンクごとに、それまでに UPDATE された件数を受け取る {@link IntConsumer}
+	 * @return UPDATE された件数
+	 * @throws IllegalStateException トランザクション内から呼び出された場合
+	 */
+	public int updateInChunks(Consumer<UpdateAssist> consumer, int chunkSize, Duration pause, IntConsumer progress) {
+		Objects.requireNonNull(consumer);
+		return inChunks$(chunkSize, pause, progress, keys -> new /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/().UPDATE(consumer).WHERE(primaryKeyCriteria$(keys)).execute());
+	}
+
+	private int inChunks$(int chunkSize, Duration pause, IntConsumer progress, ToIntFunction<List<Object[]>> action) {
+		if (chunkSize <= 0) throw new IllegalArgumentException("chunkSize");
+		Objects.requireNonNull(pause);
+		Objects.requireNonNull(progress);
+
+		//チャンクごとにコミットするため、呼び出し元のトランザクションには参加できない
+		if (BlendeeManager.get().hasConnection()) throw new IllegalStateException("in transaction");
+
+		selectBehavior().checkRowMode();
+
+		//このインスタンスの SELECT 句は変更せず、主キーのみを検索する
+		var pages = new KeysetPages(/*++[[PK_SELECT]]++*//*--*/a -> a.ls(a.columnName)/*--*/, chunkSize);
+
+		var total = 0;
+		while (true) {
+			var processed = new int[] { -1 };
+			try {
+				Blendee.execute(t -> {
+					if (!pages.hasNext()) return;
+
+					var keys = new ArrayList<Object[]>(chunkSize);
+					pages.next().forEach(row -> keys.add(primaryKey$(row.data$)));
+
+					processed[0] = action.applyAsInt(keys);
+				});
+			} catch (RuntimeException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			} finally {
+				//コミット前に他のスレッドがキャッシュした値を破棄する
+				invalidateCaches$();
+			}
+
+			if (processed[0] < 0) return total;
+
+			total += processed[0];
+			progress.accept(total);
+
+			if (pause.isZero() || pause.isNegative()) continue;
+
+			try {
+				Thread.sleep(pause.toMillis());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	/**
+	 * {@link #pages(int)} の各ページを、検索と並行して consumer で処理します。<br>
+	 * ページの検索はこのメソッドを呼び出したスレッド (トランザクション) で行われ、 consumer は executor 上でページ順に一つずつ実行されます。<br>
+	 * consumer の処理待ちのページが bufferPages に達した場合、次ページの検索は待機します。
+	 * @param pageSize 一ページの件数
+	 * @param bufferPages 処理待ちとして保持する最大ページ数
+	 * @param executor consumer を実行する {@link Executor}
+	 * @param consumer ページの処理
+	 */
+	public void processPages(int pageSize, int bufferPages, Executor executor, Consumer<List<Row>> consumer) {
+		if (bufferPages <= 0) throw new IllegalArgumentException("bufferPages");
+
+		var queue = new ArrayBlockingQueue<List<Row>>(bufferPages);
+
+		//終端を表すインスタンス
+		var end = new ArrayList<Row>();
+
+		var processor = CompletableFuture.runAsync(() -> {
+			try {
+				for (var page = queue.take(); page != end; page = queue.take()) {
+					consumer.accept(page);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+		}, executor);
+
+		var offered = false;
+		try {
+			var pages = pages(pageSize);
+			while (pages.hasNext()) {
+				if (!offer$(queue, pages.next(), processor)) break;
+			}
+
+			offer$(queue, end, processor);
+			offered = true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} finally {
+			//検索側で例外が発生した場合、処理待ちのページを破棄して処理側を終了させる
+			if (!offered) {
+				queue.clear();
+				queue.offer(end);
+			}
+		}
+
+		processor.join();
+	}
+
+	/**
+	 * {@link #pages(int)} の各ページを、検索と並行して consumer で処理します。<br>
+	 * consumer は、実行環境で使用可能であれば仮想スレッド上で、そうでなければ専用のスレッド上で実行されます。
+	 * @param pageSize 一ページの件数
+	 * @param bufferPages 処理待ちとして保持する最大ページ数
+	 * @param consumer ページの処理
+	 * @see #processPages(int, int, Executor, Consumer)
+	 */
+	public void processPages(int pageSize, int bufferPages, Consumer<List<Row>> consumer) {
+		var executor = newExecutor$(1);
+		try {
+			processPages(pageSize, bufferPages, executor, consumer);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * 処理側が終了していた場合は false
+	 */
+	private static boolean offer$(
+		ArrayBlockingQueue<List<Row>> queue,
+		List<Row> page,
+		CompletableFuture<Void> processor)
+		throws InterruptedException {
+		while (!queue.offer(page, 100, TimeUnit.MILLISECONDS)) {
+			if (processor.isDone()) return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * 主キー先頭項目の範囲でこのインスタンスの検索結果を partitions 個に分割し、各範囲を並行して走査します。<br>
+	 * 各範囲は executor 上でそれぞれ個別のトランザクション (接続) を使用して検索されます。<br>
+	 * 範囲は、このインスタンスの WHERE 句に該当するレコードの主キー先頭項目が整数型の場合は最小値から最大値までを等分し、それ以外の場合は NTILE により件数で等分します。<br>
+	 * 各範囲の検索では WHERE 句に範囲の条件が追加されますが、このインスタンスの状態は変更されません。<br>
+	 * 範囲の算出ではこのインスタンスの検索を副問合せとして使用するため、 ORDER BY 句は設定しないでください。<br>
+	 * consumer は複数のスレッドから同時に呼び出されます。
+	 * @param partitions 分割数
+	 * @param executor 各範囲を走査する {@link Executor}
+	 * @param consumer 各レコードを受け取る {@link Consumer}
+	 */
+	public void parallelScan(int partitions, Executor executor, Consumer<Row> consumer) {
+		if (partitions <= 0) throw new IllegalArgumentException("partitions");
+
+		var selectBehavior = selectBehavior();
+		selectBehavior.checkRowMode();
+
+		var tasks = partitionQueries$(partitions).stream()
+			.map(query -> CompletableFuture.runAsync(() -> {
+				try {
+					Blendee.execute(t -> {
+						try (var iterator = query.retrieve()) {
+							iterator.forEachRemaining(consumer);
+						}
+					});
+				} catch (RuntimeException e) {
+					throw e;
+				} catch (Exception e) {
+					throw new IllegalStateException(e);
+				}
+			}, executor))
+			.toArray(CompletableFuture[]::new);
+
+		CompletableFuture.allOf(tasks).join();
+	}
+
+	/**
+	 * 主キー先頭項目の範囲でこのインスタンスの検索結果を partitions 個に分割し、各範囲を並行して走査します。<br>
+	 * 各範囲は、実行環境で使用可能であれば仮想スレッド上で、そうでなければ範囲ごとのスレッド上で走査されます。
+	 * @param partitions 分割数
+	 * @param consumer 各レコードを受け取る {@link Consumer}
+	 * @see #parallelScan(int, Executor, Consumer)
+	 */
+	public void parallelScan(int partitions, Consumer<Row> consumer) {
+		var executor = newExecutor$(partitions);
+		try {
+			parallelScan(partitions, executor, consumer);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private List<Query> partitionQueries$(int partitions) {
+		var bounds = partitionBounds$(partitions);
+
+		var queries = new ArrayList<Query>();
+		if (bounds.isEmpty()) return queries;
+
+		var max = bounds.get(bounds.size() - 1);
+
+		//主キー先頭項目が一意でない場合、 NTILE の各グループの最小値は重複するため、同じ下限値の範囲は一つにする
+		var lowers = new ArrayList<Object>();
+		for (var bound : bounds.subList(0, bounds.size() - 1)) {
+			if (lowers.isEmpty() || !lowers.get(lowers.size() - 1).equals(bound)) lowers.add(bound);
+		}
+
+		//[lower, upper) の範囲、最後の範囲のみ [lower, max]
+		for (var i = 0; i < lowers.size(); i++) {
+			var lower = lowers.get(i);
+			queries.add(derive$(
+				null,
+				i < lowers.size() - 1 ? rangeCriteria$(lower, lowers.get(i + 1)) : lastRangeCriteria$(lower, max),
+				null));
+		}
+
+		return queries;
+	}
+
+	/**
+	 * 各範囲の下限値と、最後の要素に最大値を持つ {@link List}
+	 */
+	private List<Object> partitionBounds$(int partitions) {
+		//このインスタンスの WHERE 句に該当するレコードのみを対象とするため、検索を副問合せとして使用する
+		var source = derive$(a -> a.ls(a./*++[[RANGE_COLUMN]]++*//*--*/columnName/*--*/.AS("blendee_range")), null, null);
+		var from = "(" + source.sql() + ") blendee_source";
+		PreparedStatementComplementer complementer = statement -> source.complement(0, statement);
+
+		var minMax = query$(
+			"SELECT MIN(blendee_range), MAX(blendee_range) FROM " + from,
+			complementer,
+			result -> {
+				result.next();
+				return new Object[] { result.getObject(1), result.getObject(2) };
+			});
+
+		var bounds = new ArrayList<Object>();
+
+		var min = minMax[0];
+		var max = minMax[1];
+
+		//レコードが存在しない
+		if (min == null) return bounds;
+
+		if (integral$(min) && integral$(max)) {
+			//最小値と最大値の差は long に収まらない場合がある
+			var lower = BigInteger.valueOf(((Number) min).longValue());
+			var upper = BigInteger.valueOf(((Number) max).longValue());
+			var width = upper.subtract(lower).divide(BigInteger.valueOf(partitions)).add(BigInteger.ONE);
+			for (var i = 0; i < partitions; i++) {
+				var bound = lower.add(width.multiply(BigInteger.valueOf(i)));
+				if (bound.compareTo(upper) > 0) break;
+
+				bounds.add(bound.longValue());
+			}
+		} else {
+			query$(
+				"SELECT MIN(blendee_range) FROM (SELECT blendee_range, NTILE(" + partitions + ") OVER (ORDER BY blendee_range) blendee_bucket FROM " + from + ") blendee_partition GROUP BY blendee_bucket ORDER BY 1",
+				complementer,
+				result -> {
+					while (result.next()) {
+						bounds.add(result.getObject(1));
+					}
+
+					return bounds;
+				});
+		}
+
+		bounds.add(max);
+
+		return bounds;
+	}
+
+	private static boolean integral$(Object value) {
+		return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+	}
+
+	private static Consumer<WhereAssist> rangeCriteria$(Object lower, Object upper) {
+		return a -> a./*++[[RANGE_COLUMN]]++*//*--*/columnName/*--*/.ge(lower).AND./*++[[RANGE_COLUMN]]++*//*--*/columnName/*--*/.lt(upper);
+	}
+
+	private static Consumer<WhereAssist> lastRangeCriteria$(Object lower, Object max) {
+		return a -> a.paren(s -> s./*++[[RANGE_COLUMN]]++*//*--*/columnName/*--*/.ge(lower).AND./*++[[RANGE_COLUMN]]++*//*--*/columnName/*--*/.lt(max).OR./*++[[RANGE_COLUMN]]++*//*--*/columnName/*--*/.eq(max));
+	}
+
+	private static Consumer<WhereAssist> seekCriteria$(Object[] key) {
+		return /*++[[SEEK_CRITERIA]]++*//*--*/a -> a.columnName.gt(key[0])/*--*/;
+	}
+
+	private static OrderByOfferFunction<OrderByAssist> orderByPrimaryKey$() {
+		return /*++[[PK_ORDER]]++*//*--*/a -> a.ls(a.columnName.ASC)/*--*/;
+	}
+
+	private static Consumer<DMSWhereAssist> primaryKeyCriteria$(List<Object[]> keys) {
+		return /*++[[PK_CRITERIA]]++*//*--*/a -> a.columnName.IN(keys.stream().map(key -> key[0]).toArray())/*--*/;
+	}
+
+	private static Object[] primaryKey$(DataObject data) {
+		var key = new Object[primaryKeyColumns$.length];
+		for (var i = 0; i < key.length; i++) {
+			key[i] = data.getValue(primaryKeyColumns$[i]).getValue();
+		}
+
+		return key;
+	}
+
+	private static final ThreadLocal<IdentityScope> identityScope$ = new ThreadLocal<>();
+
+	private static final int identityScopeSize$ = 10000;
+
+	/**
+	 * このスレッドで、このテーブルと結合される可能性のあるテーブルのレコードを、主キーごとに一意にする {@link IdentityScope} を開始します。<br>
+	 * スコープが保持するレコードの最大件数は、テーブルごとに 10000 件です。
+	 * @see #openIdentityScope(int)
+	 * @return {@link IdentityScope}
 	 */
-	public <R extends OnRightClauseAssist<?>> OnClause<OnLeftAssist, R, /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/> FULL_OUTER_JOIN(RightTable<R> right) {
-		return selectBehavior().FULL_OUTER_JOIN(right, this);
+	public static IdentityScope openIdentityScope() {
+		return openIdentityScope(identityScopeSize$);
 	}
 
 	/**
-	 * このクエリに CROSS JOIN で別テーブルを結合します。
-	 * @param right 別クエリ
-	 * @return この {@link SelectStatement}
+	 * このスレッドで、このテーブルと結合される可能性のあるテーブルのレコードを、主キーごとに一意にする {@link IdentityScope} を開始します。<br>
+	 * 参照先のテーブル (主キーを持つもの) のスコープも同時に開始され、返されたスコープの close で共に終了します。<br>
+	 * そのため、複数のテーブルにまたがる処理も、起点となるテーブルのスコープ一つで扱えます。<br>
+	 * スコープ内では、同じ主キーのレコードに対して最初に読み込まれた {@link Row} が返され、既に読み込まれたレコードの fetch はデータベースを検索しません。<br>
+	 * 主キーの値は、数値の型 (Integer と Long 、スケールの異なる BigDecimal 等) が異なっても同じ値であれば同じレコードとして扱われます。<br>
+	 * 結合で読み込まれたレコードも、スコープ内に同じ主キーの Row があればその Row が返されます。<br>
+	 * SELECT 句で項目を限定した検索は、スコープの対象外です。<br>
+	 * 保持するレコードが最大件数に達した後に読み込まれたレコードは、スコープに追加されず、一意になりません。<br>
+	 * 使用後は必ず close してください。
+	 * @param maximumRows スコープがテーブルごとに保持するレコードの最大件数
+	 * @return {@link IdentityScope}
 	 */
-	public <R extends OnRightClauseAssist<?>> /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ CROSS_JOIN(RightTable<R> right) {
-		selectBehavior().CROSS_JOIN(right);
-		return this;
+	public static IdentityScope openIdentityScope(int maximumRows) {
+		var scope = openSingleIdentityScope(maximumRows);/*++[[IDENTITY_SCOPE_DEPENDENCY_PART]]++*//*==IdentityScopeDependencyPart==*/
+		scope.join$(() -> /*++[[REFERENCE_PACKAGE]].[[REFERENCE]]++*//*--*/TableFacadeTemplate/*--*/.openSingleIdentityScope(maximumRows)::close);/*==IdentityScopeDependencyPart==*/
+
+		return scope;
 	}
 
 	/**
-	 * UNION するクエリを追加します。<br>
-	 * 追加する側のクエリには ORDER BY 句を設定することはできません。
-	 * @param select UNION 対象
-	 * @return この {@link SelectStatement}
+	 * このスレッドで、このテーブルのみのレコードを主キーごとに一意にする {@link IdentityScope} を開始します。<br>
+	 * 参照先のテーブルのスコープは開始されません。
+	 * @param maximumRows スコープが保持するレコードの最大件数
+	 * @return {@link IdentityScope}
+	 * @see #openIdentityScope(int)
 	 */
-	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ UNION(SelectStatement select) {
-		selectBehavior().UNION(select);
-		return this;
+	public static IdentityScope openSingleIdentityScope(int maximumRows) {
+		if (maximumRows <= 0) throw new IllegalArgumentException("maximumRows");
+
+		var scope = new IdentityScope(identityScope$.get(), maximumRows);
+		identityScope$.set(scope);
+		return scope;
 	}
 
 	/**
-	 * UNION ALL するクエリを追加します。<br>
-	 * 追加する側のクエリには ORDER BY 句を設定することはできません。
-	 * @param select UNION ALL 対象
-	 * @return この {@link SelectStatement}
+	 * 数値の型が異なる主キーの値も、同じ値であれば等しくなるキー
 	 */
-	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ UNION_ALL(SelectStatement select) {
-		selectBehavior().UNION_ALL(select);
-		return this;
+	private static List<Object> identityKey$(Object[] primaryKey) {
+		var key = new Object[primaryKey.length];
+		for (var i = 0; i < key.length; i++) {
+			key[i] = normalize$(primaryKey[i]);
+		}
+
+		return Arrays.asList(key);
+	}
+
+	/**
+	 * 一つのスレッド内で、このテーブルのレコードを主キーごとに一意にするスコープです。<br>
+	 * 数値の主キーは型が異なっても同じ値であれば一致しますが、文字列と数値のように種類の異なる値は一致しません。
+	 */
+	public static class IdentityScope implements AutoCloseable {
+
+		private final IdentityScope outer;
+
+		private final int maximumRows;
+
+		private final Map<List<Object>, Row> rows = new HashMap<>();
+
+		//共に終了する、参照先のテーブルのスコープ
+		private final List<Runnable> dependents = new ArrayList<>();
+
+		private boolean closed;
+
+		private IdentityScope(IdentityScope outer, int maximumRows) {
+			this.outer = outer;
+			this.maximumRows = maximumRows;
+		}
+
+		/**
+		 * 参照先のテーブルのスコープを開始し、このスコープと共に終了するようにします。
+		 */
+		private void join$(Supplier<Runnable> opener) {
+			try {
+				dependents.add(opener.get());
+			} catch (RuntimeException e) {
+				close();
+				throw e;
+			}
+		}
+
+		private Row share(Object[] primaryKey, Supplier<Row> supplier) {
+			var key = identityKey$(primaryKey);
+			var row = rows.get(key);
+			if (row != null) return row;
+
+			row = supplier.get();
+
+			//最大件数に達した後は、スコープに追加しない
+			if (rows.size() < maximumRows) rows.put(key, row);
+
+			return row;
+		}
+
+		/**
+		 * @return スコープ内で読み込まれたレコードの件数
+		 */
+		public int size() {
+			return rows.size();
+		}
+
+		/**
+		 * スコープを終了し、開始前のスコープに戻します。<br>
+		 * 同時に開始された参照先のテーブルのスコープも終了します。
+		 */
+		@Override
+		public void close() {
+			if (closed) return;
+			closed = true;
+
+			rows.clear();
+
+			for (var i = dependents.size() - 1; i >= 0; i--) {
+				dependents.get(i).run();
+			}
+
+			if (identityScope$.get() != this) return;
+
+			if (outer == null) {
+				identityScope$.remove();
+			} else {
+				identityScope$.set(outer);
+			}
+		}
+	}
+
+	private static ExecutorService newExecutor$(int threads) {
+		try {
+			//Java 21 以降
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException e) {
+			return Executors.newFixedThreadPool(threads);
+		}
+	}
+/*--?PK--*//*--?REF--*/
+	private static final Object snapshotLock$ = new Object();
+
+	private static volatile Snapshot snapshot$;
+
+	/**
+	 * 主キー以外の一意キーの項目
+	 */
+	private static final String[][] uniqueKeys$ = { /*++[[SNAPSHOT_UNIQUE_KEYS]]++*/ };
+
+	/**
+	 * 参照データであるこのテーブルの全件を保持する {@link Snapshot} を返します。<br>
+	 * まだ読み込まれていない場合、一度の検索で全件を読み込みます。<br>
+	 * 保持している内容は、 {@link #refreshSnapshot()} が実行されるまで更新されません。
+	 * @return {@link Snapshot}
+	 */
+	public static Snapshot snapshot() {
+		var snapshot = snapshot$;
+		if (snapshot != null) return snapshot;
+
+		synchronized (snapshotLock$) {
+			if (snapshot$ == null) snapshot$ = new Snapshot(list$(new /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/().retrieve()));
+
+			return snapshot$;
+		}
+	}
+
+	/**
+	 * 読み込み済みの場合のみ、 {@link #snapshot()} が返す {@link Snapshot} を返します。
+	 * @return {@link Snapshot} 、まだ読み込まれていない場合は empty
+	 */
+	public static Optional<Snapshot> loadedSnapshot() {
+		return Optional.ofNullable(snapshot$);
+	}
+
+	/**
+	 * このテーブルの全件を読み込み直し、 {@link #snapshot()} が返す {@link Snapshot} を置き換えます。<br>
+	 * 読み込みが完了するまでは、以前の {@link Snapshot} が使用されます。
+	 * @return 新しい {@link Snapshot}
+	 */
+	public static Snapshot refreshSnapshot() {
+		var snapshot = new Snapshot(list$(new /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/().retrieve()));
+		synchronized (snapshotLock$) {
+			snapshot$ = snapshot;
+		}
+
+		return snapshot;
+	}
+
+	/**
+	 * {@link #refreshSnapshot()} を一定間隔で実行するようにします。<br>
+	 * 各実行は、それぞれ独立したトランザクション内で行われます。
+	 * @param scheduler 実行に使用する {@link ScheduledExecutorService}
+	 * @param interval 実行間隔
+	 * @return 実行を中止するための {@link ScheduledFuture}
+	 */
+	public static ScheduledFuture<?> scheduleSnapshotRefresh(ScheduledExecutorService scheduler, Duration interval) {
+		var nanos = interval.toNanos();
+		return scheduler.scheduleWithFixedDelay(() -> {
+			try {
+				Blendee.execute(t -> {
+					refreshSnapshot();
+				});
+			} catch (RuntimeException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		}, nanos, nanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * 参照データであるテーブルの全件を保持する、変更されないスナップショットです。<br>
+	 * 主キー及び一意キーのハッシュインデックスは読み込み時に作成され、 {@link #find(String[], Object...)} で使用された項目の組み合わせのハッシュインデックスは最初の検索時に作成されます。<br>
+	 * 検索はロックを取得せずに行われます。<br>
+	 * 数値の項目は、検索に使用する値の型が異なっても同じ値であれば一致します。<br>
+	 * 返される {@link Row} は呼び出しごとに複製されるため、変更してもスナップショットには影響しません。
+	 */
+	public static class Snapshot {
+
+		private final List<Row> rows;
+
+		private final Map<List<Object>, Row> primaryKeyIndex;
+
+		private final Map<List<String>, Map<List<Object>, Row>> uniqueIndexes = new HashMap<>();
+
+		private final Map<List<String>, Map<List<Object>, List<Row>>> indexes = new ConcurrentHashMap<>();
+
+		private Snapshot(List<Row> rows) {
+			this.rows = Collections.unmodifiableList(rows);
+
+			primaryKeyIndex = uniqueIndex$(primaryKeyColumns$);
+
+			for (var columnNames : uniqueKeys$) {
+				uniqueIndexes.put(List.of(columnNames), uniqueIndex$(columnNames));
+			}
+		}
+
+		/**
+		 * @return 全件
+		 */
+		public List<Row> rows() {
+			return detach$(rows);
+		}
+
+		/**
+		 * @return 件数
+		 */
+		public int size() {
+			return rows.size();
+		}
+
+		/**
+		 * 主キーの値が一致するレコードを返します。
+		 * @param primaryKeyMembers 主キーの値
+		 * @return {@link Row}
+		 */
+		public Optional<Row> get(Object... primaryKeyMembers) {
+			return Optional.ofNullable(primaryKeyIndex.get(lookupKey$(primaryKeyMembers))).map(Snapshot::detach$);
+		}
+
+		/**
+		 * 指定された項目の値が一致するレコードを返します。<br>
+		 * 項目の組み合わせごとのハッシュインデックスは、最初の検索時に作成されます。
+		 * @param columnNames 項目名
+		 * @param values 各項目の値
+		 * @return 一致するレコード
+		 */
+		public List<Row> find(String[] columnNames, Object... values) {
+			if (columnNames.length != values.length) throw new IllegalArgumentException("values");
+
+			var index = indexes.computeIfAbsent(List.of(columnNames), k -> index$(columnNames));
+
+			return detach$(index.getOrDefault(lookupKey$(values), List.of()));
+		}
+
+		/**
+		 * 一意キーである項目の値が一致するレコードを返します。<br>
+		 * データベースで一意キーとして定義されている項目の場合、読み込み時に作成されたハッシュインデックスを使用します。
+		 * @param columnNames 一意キーの項目名
+		 * @param values 各項目の値
+		 * @return {@link Row}
+		 * @throws IllegalStateException 一致するレコードが複数存在する場合
+		 */
+		public Optional<Row> unique(String[] columnNames, Object... values) {
+			if (columnNames.length != values.length) throw new IllegalArgumentException("values");
+
+			var uniqueIndex = uniqueIndexes.get(List.of(columnNames));
+			if (uniqueIndex != null) return Optional.ofNullable(uniqueIndex.get(lookupKey$(values))).map(Snapshot::detach$);
+
+			var found = find(columnNames, values);
+			if (found.size() > 1) throw new IllegalStateException("not unique: " + String.join(", ", columnNames));
+
+			return found.stream().findFirst();
+		}
+
+		private Map<List<Object>, Row> uniqueIndex$(String[] columnNames) {
+			var index = new HashMap<List<Object>, Row>(rows.size() * 4 / 3 + 1);
+			rows.forEach(row -> {
+				var key = indexKey$(row, columnNames);
+
+				//null を含む一意キーは重複し得るため、対象外とする
+				if (!key.contains(null)) index.put(key, row);
+			});
+
+			return Collections.unmodifiableMap(index);
+		}
+
+		private Map<List<Object>, List<Row>> index$(String[] columnNames) {
+			var index = new HashMap<List<Object>, List<Row>>();
+			rows.forEach(row -> index.computeIfAbsent(indexKey$(row, columnNames), k -> new ArrayList<>()).add(row));
+
+			index.replaceAll((k, v) -> Collections.unmodifiableList(v));
+
+			return Collections.unmodifiableMap(index);
+		}
+
+		private static List<Object> indexKey$(Row row, String[] columnNames) {
+			var key = new Object[columnNames.length];
+			for (var i = 0; i < key.length; i++) {
+				key[i] = row.data$.getValue(columnNames[i]).getValue();
+			}
+
+			return lookupKey$(key);
+		}
+
+		private static List<Object> lookupKey$(Object[] values) {
+			var key = new Object[values.length];
+			for (var i = 0; i < key.length; i++) {
+				key[i] = normalize$(values[i]);
+			}
+
+			return Arrays.asList(key);
+		}
+
+		private static Row detach$(Row row) {
+			return new Row(copy$(row.data$));
+		}
+
+		private static List<Row> detach$(List<Row> rows) {
+			var detached = new ArrayList<Row>(rows.size());
+			rows.forEach(row -> detached.add(detach$(row)));
+
+			return detached;
+		}
+	}
+/*--?REF--*/
+	/**
+	 * このインスタンスの SELECT 句、 WHERE 句、 ORDER BY 句、 {@link SQLDecorator} を一時的に変更した {@link Query} を生成します。<br>
+	 * 生成後、このインスタンスの状態は元に戻されるため、何度呼び出しても条件が積み重なることはありません。
+	 * @param select 置き換える SELECT 句、 null の場合は現在の SELECT 句
+	 * @param where 現在の WHERE 句に AND 結合する条件、 null の場合は現在の WHERE 句
+	 * @param orderBy 置き換える ORDER BY 句、 null の場合は現在の ORDER BY 句
+	 * @param decorators 現在の {@link SQLDecorator} の後に追加する {@link SQLDecorator}
+	 * @return {@link Query}
+	 */
+	private Query derive$(
+		SelectOfferFunction<SelectAssist> select,
+		Consumer<WhereAssist> where,
+		OrderByOfferFunction<OrderByAssist> orderBy,
+		SQLDecorator... decorators) {
+		var selectBehavior = selectBehavior();
+
+		var replay = selectReplay$;
+		var selected = selected$;
+		var whereClause = hasWhereClause() ? getWhereClause() : null;
+		var orderByClause = getOrderByClause();
+		var currentDecorators = new ArrayList<>(decorators$);
+
+		try {
+			if (select != null) {
+				selectBehavior.resetSelect();
+				selectBehavior.SELECT(select);
+			}
+
+			if (where != null) {
+				//元の WHERE 句は変更されないよう、新しい条件の側に結合する
+				var criteria = createWhereCriteria(where);
+				selectBehavior.resetWhere();
+				selectBehavior.and(criteria);
+				if (whereClause != null) selectBehavior.and(whereClause);
+			}
+
+			if (orderBy != null) {
+				selectBehavior.resetOrderBy();
+				selectBehavior.ORDER_BY(orderBy);
+			}
+
+			decorators$.addAll(Arrays.asList(decorators));
+
+			return reproduce();
+		} finally {
+			if (select != null) {
+				selectBehavior.resetSelect();
+				if (replay != null) replay.accept(selectBehavior);
+			}
+
+			if (where != null) {
+				selectBehavior.resetWhere();
+				if (whereClause != null) selectBehavior.and(whereClause);
+			}
+
+			if (orderBy != null) {
+				selectBehavior.resetOrderBy();
+				if (orderByClause != null) selectBehavior.setOrderByClause(orderByClause);
+			}
+
+			decorators$.clear();
+			decorators$.addAll(currentDecorators);
+
+			selectReplay$ = replay;
+			selected$ = selected;
+		}
+	}
+
+	private static <T> T query$(String sql, PreparedStatementComplementer complementer, Function<BResultSet, T> function) {
+		try (var statement = BlendeeManager.getConnection().getStatement(sql, complementer)) {
+			try (var result = statement.executeQuery()) {
+				return function.apply(result);
+			}
+		}
+	}
+
+	/**
+	 * このテーブルの全項目の値を移し替えた、新しい {@link DataObject} を生成します。
+	 */
+	private static DataObject copy$(DataObject data) {
+		var relationship = RelationshipFactory.getInstance().getInstance($TABLE);
+		var copy = new DataObject(relationship);
+		for (var column : relationship.getColumns()) {
+			var name = column.getName();
+			copy.setValue(name, data.getValue(name));
+		}
+
+		return copy;
+	}
+
+	/**
+	 * JDBC ドライバの返す型が異なる数値 (Integer と Long 、スケールの異なる BigDecimal 等) を、同じ値であれば等しくなるように揃えます。
+	 */
+	private static Object normalize$(Object value) {
+		if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) return ((Number) value).longValue();
+
+		if (value instanceof BigInteger) value = new BigDecimal((BigInteger) value);
+
+		if (!(value instanceof BigDecimal)) return value;
+
+		var decimal = ((BigDecimal) value).stripTrailingZeros();
+		if (decimal.scale() > 0) return decimal;
+
+		try {
+			return decimal.longValueExact();
+		} catch (ArithmeticException e) {
+			return decimal.setScale(0);
+		}
+	}
+
+	private static List<Row> list$(Iterator iterator) {
+		var rows = new ArrayList<Row>();
+		try (iterator) {
+			iterator.forEachRemaining(rows::add);
+		}
+
+		return rows;
+	}
+
+	@Override
+	public Optional<Row> fetch(String... primaryKeyMembers) {
+		var selectBehavior = selectBehavior();
+		selectBehavior.checkRowMode();
+		return fetch$(primaryKeyMembers, () -> selectBehavior.query().fetch(primaryKeyMembers)).map(o -> createRow(o));
+	}
+
+	@Override
+	public Optional<Row> fetch(Number... primaryKeyMembers) {
+		var selectBehavior = selectBehavior();
+		selectBehavior.checkRowMode();
+		return fetch$(primaryKeyMembers, () -> selectBehavior.query().fetch(primaryKeyMembers)).map(o -> createRow(o));
+	}
+
+	@Override
+	public Optional<Row> fetch(Bindable... primaryKeyMembers) {
+		var selectBehavior = selectBehavior();
+		selectBehavior.checkRowMode();
+
+		var key = new Object[primaryKeyMembers.length];
+		for (var i = 0; i < key.length; i++) {
+			key[i] = primaryKeyMembers[i].toBinder().getValue();
+		}
+
+		return fetch$(key, () -> selectBehavior.query().fetch(primaryKeyMembers)).map(o -> createRow(o));
+	}
+
+	private static volatile FetchCache fetchCache$;
+
+	/**
+	 * このテーブルの主キーによる検索 (fetch) の結果をキャッシュするようにします。<br>
+	 * 更新は {@link #modify(Supplier)} で実行してください。キャッシュはトランザクションのコミットまたはロールバックの後に破棄されます。<br>
+	 * {@link #modify(Supplier)} を使用せずに更新した場合、キャッシュは INSERT, UPDATE, DELETE 文の生成時と、このクラスの更新処理の実行後に破棄されるのみです。<br>
+	 * その場合、コミットまでの間に他のスレッドが検索した更新前の値がキャッシュに残るため、コミットまたはロールバックの後に {@link #invalidateCaches()} を呼び出してください。<br>
+	 * SELECT 句で項目を限定した検索はキャッシュされません。<br>
+	 * キャッシュから返される {@link Row} は、それぞれ値の複製を持ちます。
+	 * @param maximumSize 保持する最大件数
+	 * @param timeToLive 保持期間
+	 */
+	public static void enableFetchCache(int maximumSize, Duration timeToLive) {
+		if (maximumSize <= 0) throw new IllegalArgumentException("maximumSize");
+		fetchCache$ = new FetchCache(maximumSize, timeToLive.toNanos());
+	}
+
+	/**
+	 * このテーブルの主キーによる検索 (fetch) の結果をキャッシュしないようにします。
+	 */
+	public static void disableFetchCache() {
+		fetchCache$ = null;
+	}
+
+	/**
+	 * このテーブルの主キーによる検索 (fetch) のキャッシュを返します。
+	 * @return {@link FetchCache} 、使用していない場合は empty
+	 */
+	public static Optional<FetchCache> fetchCache() {
+		return Optional.ofNullable(fetchCache$);
+	}
+
+	private Optional<DataObject> fetch$(Object[] primaryKeyMembers, Supplier<Optional<DataObject>> fetcher) {
+/*--?PK--*/		var scope = identityScope$.get();
+		if (scope != null && !selected$) {
+			var row = scope.rows.get(identityKey$(primaryKeyMembers));
+			if (row != null) return Optional.of(row.data$);
+		}
+
+/*--?PK--*/		var cache = fetchCache$;
+
+		//全項目を持つ検索結果のみを扱う
+		if (cache == null || selected$) return fetcher.get();
+
+		//SELECT 句が異なる検索結果を区別するため、 SQL もキーに含める
+		var key = new ArrayList<Object>(primaryKeyMembers.length + 1);
+		key.add(sql());
+		for (var member : primaryKeyMembers) {
+			key.add(normalize$(member));
+		}
+
+		//キャッシュ内の値が呼び出し側から変更されないよう、常に複製を受け渡す
+		var data = cache.get(key);
+		if (data != null) return Optional.of(copy$(data));
+
+		var version = cache.version();
+
+		var result = fetcher.get();
+		result.ifPresent(d -> cache.put(key, copy$(d), version));
+
+		return result;
 	}
 
 	/**
-	 * INTERSECT するクエリを追加します。<br>
-	 * 追加する側のクエリには ORDER BY 句を設定することはできません。
-	 * @param select INTERSECT 対象
-	 * @return この {@link SelectStatement}
+	 * このテーブルの fetch 及び検索結果のキャッシュをすべて破棄します。<br>
+	 * {@link #modify(Supplier)} を使用せずにこのテーブルを更新した場合、トランザクションのコミットまたはロールバックの後に呼び出してください。
 	 */
-	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ INTERSECT(SelectStatement select) {
-		selectBehavior().INTERSECT(select);
-		return this;
+	public static void invalidateCaches() {
+		invalidateCaches$();
 	}
 
 	/**
-	 * INTERSECT ALL するクエリを追加します。<br>
-	 * 追加する側のクエリには ORDER BY 句を設定することはできません。
-	 * @param select INTERSECT ALL 対象
-	 * @return この {@link SelectStatement}
+	 * このテーブルを更新する処理を一つのトランザクションで実行し、コミットまたはロールバックの後に、このテーブルの fetch 及び検索結果のキャッシュを破棄します。<br>
+	 * トランザクション中に他のスレッドが検索し、キャッシュした更新前の値も、この破棄により取り除かれます。<br>
+	 * トランザクションを終了させるため、トランザクション外から呼び出してください。
+	 * @param <T> 処理の結果の型
+	 * @param modification 更新処理
+	 * @return 処理の結果
+	 * @throws IllegalStateException トランザクション内から呼び出された場合
 	 */
-	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ INTERSECT_ALL(SelectStatement select) {
-		selectBehavior().INTERSECT_ALL(select);
-		return this;
+	public static <T> T modify(Supplier<T> modification) {
+		Objects.requireNonNull(modification);
+
+		//コミット後に破棄するため、呼び出し元のトランザクションには参加できない
+		if (BlendeeManager.get().hasConnection()) throw new IllegalStateException("in transaction");
+
+		var result = new ArrayList<T>(1);
+		try {
+			Blendee.execute(t -> {
+				result.add(modification.get());
+			});
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		} finally {
+			invalidateCaches$();
+		}
+
+		return result.get(0);
 	}
 
 	/**
-	 * EXCEPT するクエリを追加します。<br>
-	 * 追加する側のクエリには ORDER BY 句を設定することはできません。
-	 * @param select EXCEPT 対象
-	 * @return この {@link SelectStatement}
+	 * 更新の前後でキャッシュを破棄します。<br>
+	 * 実行後の破棄はコミット前のため、コミット後の破棄は {@link #modify(Supplier)} 等の呼び出し側で行います。
 	 */
-	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ EXCEPT(SelectStatement select) {
-		selectBehavior().INTERSECT(select);
-		return this;
+	private static <T> T modify$(Supplier<T> modifier) {
+		invalidateCaches$();
+		try {
+			return modifier.get();
+		} finally {
+			invalidateCaches$();
+		}
 	}
 
-	/**
-	 * EXCEPT ALL するクエリを追加します。<br>
-	 * 追加する側のクエリには ORDER BY 句を設定することはできません。
-	 * @param select EXCEPT ALL 対象
-	 * @return この {@link SelectStatement}
-	 */
-	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ EXCEPT_ALL(SelectStatement select) {
-		selectBehavior().EXCEPT_ALL(select);
-		return this;
+	private static void invalidateCaches$() {
+		var fetchCache = fetchCache$;
+		if (fetchCache != null) fetchCache.invalidateAll();
+
+		clearQueryCache$();
+
+		dataChangeListeners$.forEach(Runnable::run);
 	}
 
+	private static final List<Runnable> dataChangeListeners$ = new CopyOnWriteArrayList<>();
+
+	private static boolean queryCacheDependenciesRegistered$;
+
 	/**
-	 * ORDER BY 句を記述します。
-	 * @param function
-	 * @return この {@link SelectStatement}
+	 * 結合される可能性のあるテーブルが更新された場合にも、検索結果のキャッシュを破棄するようにします。<br>
+	 * 検索結果のキャッシュを使用する場合のみ、最初に一度だけ登録します。
 	 */
-	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ ORDER_BY(
-		OrderByOfferFunction<OrderByAssist> function) {
-		selectBehavior().ORDER_BY(function);
-		return this;
-	}
-
-	@Override
-	public boolean hasWhereClause() {
-		return selectBehavior().hasWhereClause();
+	private static synchronized void registerQueryCacheDependencies$() {
+		if (queryCacheDependenciesRegistered$) return;
+		queryCacheDependenciesRegistered$ = true;
+/*++[[QUERY_CACHE_DEPENDENCY_PART]]++*//*==QueryCacheDependencyPart==*/
+		/*++[[REFERENCE_PACKAGE]].[[REFERENCE]]++*//*--*/TableFacadeTemplate/*--*/.addDataChangeListener(() -> clearQueryCache$());/*==QueryCacheDependencyPart==*/
 	}
 
 	/**
-	 * 新規に GROUP BY 句をセットします。
-	 * @param clause 新 ORDER BY 句
-	 * @return {@link SelectStatement} 自身
-	 * @throws IllegalStateException 既に ORDER BY 句がセットされている場合
+	 * このテーブルのキャッシュが破棄される時 (INSERT, UPDATE, DELETE 文の生成時、 {@link #modify(Supplier)} のトランザクション終了後等) に実行される処理を追加します。
+	 * @param listener 実行される処理
 	 */
-	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ setGroupByClause(GroupByClause clause) {
-		selectBehavior().setGroupByClause(clause);
-		return this;
+	public static void addDataChangeListener(Runnable listener) {
+		dataChangeListeners$.add(Objects.requireNonNull(listener));
 	}
 
+	private static volatile QueryCache queryCache$;
+
 	/**
-	 * 新規に ORDER BY 句をセットします。
-	 * @param clause 新 ORDER BY 句
-	 * @return {@link SelectStatement} 自身
-	 * @throws IllegalStateException 既に ORDER BY 句がセットされている場合
+	 * このテーブルの {@link #retrieve()} 及び {@link #count()} の結果を、 SQL とプレースホルダの値ごとにキャッシュするようにします。<br>
+	 * 保持する検索結果の推定サイズの合計は 64MB までとなります。
+	 * @param maximumRows 保持する検索結果の合計最大件数
+	 * @see #enableQueryCache(long, long)
 	 */
-	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ setOrderByClause(OrderByClause clause) {
-		selectBehavior().setOrderByClause(clause);
-		return this;
+	public static void enableQueryCache(long maximumRows) {
+		enableQueryCache(maximumRows, defaultQueryCacheBytes$);
 	}
 
+	private static final long defaultQueryCacheBytes$ = 64L << 20;
+
 	/**
-	 * 現時点の WHERE 句に新たな条件を AND 結合します。<br>
-	 * AND 結合する対象がなければ、新条件としてセットされます。
-	 * @param criteria AND 結合する新条件
-	 * @return {@link SelectStatement} 自身
+	 * このテーブルの {@link #retrieve()} 及び {@link #count()} の結果を、 SQL とプレースホルダの値ごとにキャッシュするようにします。<br>
+	 * 更新は {@link #modify(Supplier)} で実行してください。キャッシュはトランザクションのコミットまたはロールバックの後に破棄されます。<br>
+	 * {@link #modify(Supplier)} を使用せずに更新した場合、キャッシュはこのテーブル及び結合される可能性のあるテーブルの INSERT, UPDATE, DELETE 文の生成時と、このクラスの更新処理の実行後に破棄されるのみです。<br>
+	 * その場合、コミットまでの間に他のスレッドが検索した更新前の値がキャッシュに残るため、コミットまたはロールバックの後に {@link #invalidateCaches()} を呼び出してください。<br>
+	 * 検索結果は最後まで読み込まれた場合のみキャッシュされ、件数が合計最大件数を、または推定サイズが合計最大サイズを超える検索結果は記録を中止してそのまま読み込まれます。<br>
+	 * 推定サイズは、項目の値の型と長さ (文字列、バイト列) から概算されます。<br>
+	 * SELECT 句で項目を限定した検索はキャッシュされません。<br>
+	 * キャッシュから返される {@link Row} は、それぞれ値の複製を持ちます。
+	 * @param maximumRows 保持する検索結果の合計最大件数
+	 * @param maximumBytes 保持する検索結果の推定サイズ (バイト) の合計最大値
 	 */
-	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ and(Criteria criteria) {
-		selectBehavior().and(criteria);
-		return this;
+	public static void enableQueryCache(long maximumRows, long maximumBytes) {
+		if (maximumRows <= 0) throw new IllegalArgumentException("maximumRows");
+		if (maximumBytes <= 0) throw new IllegalArgumentException("maximumBytes");
+		registerQueryCacheDependencies$();
+		queryCache$ = new QueryCache(maximumRows, maximumBytes);
 	}
 
 	/**
-	 * 現時点の WHERE 句に新たな条件を OR 結合します。<br>
-	 * OR 結合する対象がなければ、新条件としてセットされます。
-	 * @param criteria OR 結合する新条件
-	 * @return {@link SelectStatement} 自身
+	 * このテーブルの検索結果をキャッシュしないようにします。
 	 */
-	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ or(Criteria criteria) {
-		selectBehavior().or(criteria);
-		return this;
+	public static void disableQueryCache() {
+		queryCache$ = null;
 	}
 
 	/**
-	 * 生成された SQL 文を加工する {SQLDecorator} を設定します。
-	 * @param decorators {@link SQLDecorator}
-	 * @return {@link SelectStatement} 自身
+	 * このテーブルの検索結果のキャッシュを返します。
+	 * @return {@link QueryCache} 、使用していない場合は empty
 	 */
-	@Override
-	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ accept(SQLDecorator... decorators) {
-		for (SQLDecorator decorator : decorators) {
-			this.decorators$.add(decorator);
-		}
-
-		return this;
+	public static Optional<QueryCache> queryCache() {
+		return Optional.ofNullable(queryCache$);
 	}
 
-	@Override
-	public SelectContext getSelectContext() {
-		return selectBehavior().getSelectContext();
+	private static void clearQueryCache$() {
+		var queryCache = queryCache$;
+		if (queryCache != null) queryCache.invalidateAll();
 	}
 
-	@Override
-	public GroupByClause getGroupByClause() {
-		return selectBehavior().getGroupByClause();
-	}
+	//参照、オブジェクトヘッダ等を含めた概算値
+	private static long estimateBytes$(Object value) {
+		if (value == null) return 8;
+		if (value instanceof String) return 48 + 2L * ((String) value).length();
+		if (value instanceof byte[]) return 24 + ((byte[]) value).length;
+		if (value instanceof BigDecimal) return 72 + ((BigDecimal) value).unscaledValue().bitLength() / 8;
+		if (value instanceof Timestamp) return 40;
+		if (value instanceof List) return 40 + ((List<?>) value).stream().mapToLong(v -> 8 + estimateBytes$(v)).sum();
 
-	@Override
-	public OrderByClause getOrderByClause() {
-		return selectBehavior().getOrderByClause();
+		return 24;
 	}
 
-	@Override
-	public Criteria getWhereClause() {
-		return selectBehavior().getWhereClause();
-	}
+	private static long estimateBytes$(DataObject data) {
+		var bytes = 64L;
+		for (var column : RelationshipFactory.getInstance().getInstance($TABLE).getColumns()) {
+			//値ごとの Binder を含める
+			bytes += 40 + estimateBytes$(data.getValue(column.getName()).getValue());
+		}
 
-	@Override
-	public Relationship getRootRealtionship() {
-		return relationship$;
+		return bytes;
 	}
 
-	@Override
-	public LogicalOperators<WhereAssist> getWhereLogicalOperators() {
-		return selectBehavior().whereOperators();
-	}
+	private static List<Object> queryKey$(String sql, Binder[] binders) {
+		var key = new ArrayList<Object>(binders.length + 1);
+		key.add(sql);
+		for (var binder : binders) {
+			key.add(binder.getValue());
+		}
 
-	@Override
-	public LogicalOperators<HavingAssist> getHavingLogicalOperators() {
-		return selectBehavior().havingOperators();
+		return key;
 	}
 
-	@Override
-	public LogicalOperators<OnLeftAssist> getOnLeftLogicalOperators() {
-		return selectBehavior().onLeftOperators();
-	}
+	/**
+	 * SQL とプレースホルダの値ごとに検索結果を保持するキャッシュです。<br>
+	 * 保持する検索結果の合計件数が最大件数を、または推定サイズの合計が最大サイズを超えた場合、最も長く参照されていないものから破棄されます。
+	 */
+	public static class QueryCache {
 
-	@Override
-	public OnRightLogicalOperators getOnRightLogicalOperators() {
-		return onRightOperators$ == null ? (onRightOperators$ = new OnRightLogicalOperators()) : onRightOperators$;
-	}
+		private final long maximumRows;
 
-	@Override
-	public SQLDecorator[] decorators() {
-		return decorators$.toArray(new SQLDecorator[decorators$.size()]);
-	}
+		private final long maximumBytes;
 
-	@Override
-	public Iterator retrieve() {
-		var selectBehavior = selectBehavior();
-		selectBehavior.checkRowMode();
-		return wrap(selectBehavior.query().retrieve());
+		private final LongAdder hits = new LongAdder();
+
+		private final LongAdder misses = new LongAdder();
+
+		private final LongAdder evictions = new LongAdder();
+
+		private final LinkedHashMap<List<Object>, QueryCacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+		private long rows;
+
+		private long bytes;
+
+		private long version;
+
+		private QueryCache(long maximumRows, long maximumBytes) {
+			this.maximumRows = maximumRows;
+			this.maximumBytes = maximumBytes;
+		}
+
+		private synchronized Object get(List<Object> key) {
+			var entry = entries.get(key);
+			if (entry != null) {
+				hits.increment();
+				return entry.value;
+			}
+
+			misses.increment();
+			return null;
+		}
+
+		private synchronized long version() {
+			return version;
+		}
+
+		private synchronized void put(List<Object> key, Object value, int weight, long size, long version) {
+			//検索結果とキーの推定サイズ
+			var entryBytes = size + estimateBytes$(key);
+
+			//検索中に破棄された場合、検索結果は古い可能性がある
+			if (this.version != version || weight > maximumRows || entryBytes > maximumBytes) return;
+
+			var old = entries.put(key, new QueryCacheEntry(value, weight, entryBytes));
+			if (old != null) {
+				rows -= old.weight;
+				bytes -= old.bytes;
+			}
+
+			rows += weight;
+			bytes += entryBytes;
+
+			var iterator = entries.values().iterator();
+			while (rows > maximumRows || bytes > maximumBytes) {
+				var eldest = iterator.next();
+				rows -= eldest.weight;
+				bytes -= eldest.bytes;
+				iterator.remove();
+				evictions.increment();
+			}
+		}
+
+		/**
+		 * 保持しているすべての検索結果を破棄します。
+		 */
+		public synchronized void invalidateAll() {
+			version++;
+			entries.clear();
+			rows = 0;
+			bytes = 0;
+		}
+
+		/**
+		 * @return 現在保持している検索結果の数
+		 */
+		public synchronized int size() {
+			return entries.size();
+		}
+
+		/**
+		 * @return 現在保持している検索結果の合計件数
+		 */
+		public synchronized long rows() {
+			return rows;
+		}
+
+		/**
+		 * @return 現在保持している検索結果の推定サイズ (バイト) の合計
+		 */
+		public synchronized long bytes() {
+			return bytes;
+		}
+
+		/**
+		 * @return キャッシュから返された回数
+		 */
+		public long hitCount() {
+			return hits.sum();
+		}
+
+		/**
+		 * @return キャッシュに存在せず、データベースを検索した回数
+		 */
+		public long missCount() {
+			return misses.sum();
+		}
+
+		/**
+		 * @return 合計最大件数、または合計最大サイズ超過により破棄された検索結果の数
+		 */
+		public long evictionCount() {
+			return evictions.sum();
+		}
 	}
 
-	@Override
-	public Optional<Row> fetch(String... primaryKeyMembers) {
-		var selectBehavior = selectBehavior();
-		selectBehavior.checkRowMode();
-		return selectBehavior.query().fetch(primaryKeyMembers).map(o -> createRow(o));
+	private static class QueryCacheEntry {
+
+		private final Object value;
+
+		private final int weight;
+
+		private final long bytes;
+
+		private QueryCacheEntry(Object value, int weight, long bytes) {
+			this.value = value;
+			this.weight = weight;
+			this.bytes = bytes;
+		}
 	}
 
-	@Override
-	public Optional<Row> fetch(Number... primaryKeyMembers) {
-		var selectBehavior = selectBehavior();
-		selectBehavior.checkRowMode();
-		return selectBehavior.query().fetch(primaryKeyMembers).map(o -> createRow(o));
+	/**
+	 * 主キーによる検索結果を保持するキャッシュです。<br>
+	 * 最大件数を超えた場合、最も長く参照されていないものから破棄されます。
+	 */
+	public static class FetchCache {
+
+		private final int maximumSize;
+
+		private final long timeToLiveNanos;
+
+		private final LongAdder hits = new LongAdder();
+
+		private final LongAdder misses = new LongAdder();
+
+		private final LongAdder evictions = new LongAdder();
+
+		private final LinkedHashMap<List<Object>, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<List<Object>, CacheEntry> eldest) {
+				if (size() <= maximumSize) return false;
+
+				evictions.increment();
+				return true;
+			}
+		};
+
+		private long version;
+
+		private FetchCache(int maximumSize, long timeToLiveNanos) {
+			this.maximumSize = maximumSize;
+			this.timeToLiveNanos = timeToLiveNanos;
+		}
+
+		private synchronized DataObject get(List<Object> key) {
+			var entry = entries.get(key);
+			if (entry != null) {
+				if (entry.expiresAt - System.nanoTime() > 0) {
+					hits.increment();
+					return entry.data;
+				}
+
+				entries.remove(key);
+				evictions.increment();
+			}
+
+			misses.increment();
+			return null;
+		}
+
+		private synchronized long version() {
+			return version;
+		}
+
+		private synchronized void put(List<Object> key, DataObject data, long version) {
+			//検索中に破棄された場合、検索結果は古い可能性がある
+			if (this.version != version) return;
+
+			entries.put(key, new CacheEntry(data, System.nanoTime() + timeToLiveNanos));
+		}
+
+		/**
+		 * 保持しているすべての検索結果を破棄します。
+		 */
+		public synchronized void invalidateAll() {
+			version++;
+			entries.clear();
+		}
+
+		/**
+		 * @return 現在保持している件数
+		 */
+		public synchronized int size() {
+			return entries.size();
+		}
+
+		/**
+		 * @return キャッシュから返された回数
+		 */
+		public long hitCount() {
+			return hits.sum();
+		}
+
+		/**
+		 * @return キャッシュに存在せず、データベースを検索した回数
+		 */
+		public long missCount() {
+			return misses.sum();
+		}
+
+		/**
+		 * @return 最大件数超過、または保持期間切れにより破棄された件数
+		 */
+		public long evictionCount() {
+			return evictions.sum();
+		}
 	}
 
-	@Override
-	public Optional<Row> fetch(Bindable... primaryKeyMembers) {
-		var selectBehavior = selectBehavior();
-		selectBehavior.checkRowMode();
-		return selectBehavior.query().fetch(primaryKeyMembers).map(o -> createRow(o));
+	private static class CacheEntry {
+
+		private final DataObject data;
+
+		private final long expiresAt;
+
+		private CacheEntry(DataObject data, long expiresAt) {
+			this.data = data;
+			this.expiresAt = expiresAt;
+		}
 	}
 
 	@Override
 	public int count() {
 		var selectBehavior = selectBehavior();
 		selectBehavior.checkRowMode();
-		return selectBehavior.query().count();
+
+		var cache = queryCache$;
+		if (cache == null) return selectBehavior.query().count();
+
+		var key = queryKey$(selectBehavior.query().countSQL().sql(), currentBinders());
+
+		var cached = (Integer) cache.get(key);
+		if (cached != null) return cached;
+
+		var version = cache.version();
+
+		var result = selectBehavior.query().count();
+
+		cache.put(key, result, 1, estimateBytes$(result), version);
+
+		return result;
 	}
 
 	@Override
@@ -1100,6 +5343,8 @@ public class /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/
 	 */
 	public /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/ resetSelect() {
 		selectBehavior().resetSelect();
+		selectReplay$ = null;
+		selected$ = false;
 		return this;
 	}
 
@@ -1183,6 +5428,8 @@ public class /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/
 		selectBehavior().reset();
 		dmsBehavior().reset();
 		resetDecorators();
+		selectReplay$ = null;
+		selected$ = false;
 		return this;
 	}
 
@@ -1217,6 +5464,7 @@ public class /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/
 	 * @return {@link DataManipulator}
 	 */
 	public DataManipulator insertStatement(Function<ListInsertAssist, DataManipulator> function) {
+		invalidateCaches$();
 		return dmsBehavior().insertStatement(function);
 	}
 
@@ -1226,6 +5474,7 @@ public class /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/
 	 * @return {@link DataManipulator}
 	 */
 	public DataManipulator updateStatement(Function<ListUpdateAssist, DataManipulator> function) {
+		invalidateCaches$();
 		return dmsBehavior().updateStatement(function);
 	}
 
@@ -1235,6 +5484,7 @@ public class /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/
 	 * @return {@link InsertStatementIntermediate}
 	 */
 	public InsertStatementIntermediate INSERT(InsertOfferFunction<InsertAssist> function) {
+		invalidateCaches$();
 		return dmsBehavior().INSERT(function);
 	}
 
@@ -1245,6 +5495,7 @@ public class /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/
 	 * @return {@link InsertStatementIntermediate}
 	 */
 	public InsertStatementIntermediate INSERT() {
+		invalidateCaches$();
 		return dmsBehavior().INSERT();
 	}
 
@@ -1255,6 +5506,7 @@ public class /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/
 	 * @return {@link InsertStatementIntermediate}
 	 */
 	public DataManipulator INSERT(InsertOfferFunction<InsertAssist> function, SelectStatement select) {
+		invalidateCaches$();
 		return dmsBehavior().INSERT(function, select);
 	}
 
@@ -1264,6 +5516,7 @@ public class /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/
 	 * @return {@link InsertStatementIntermediate}
 	 */
 	public DataManipulator INSERT(SelectStatement select) {
+		invalidateCaches$();
 		return dmsBehavior().INSERT(select);
 	}
 
@@ -1273,6 +5526,7 @@ public class /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/
 	 * @return {@link UpdateStatementIntermediate}
 	 */
 	public UpdateStatementIntermediate<DMSWhereAssist> UPDATE(Consumer<UpdateAssist> consumer) {
+		invalidateCaches$();
 		return dmsBehavior().UPDATE(consumer);
 	}
 
@@ -1281,6 +5535,7 @@ public class /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/
 	 * @return {@link UpdateStatementIntermediate}
 	 */
 	public UpdateStatementIntermediate<DMSWhereAssist> UPDATE() {
+		invalidateCaches$();
 		return dmsBehavior().UPDATE();
 	}
 
@@ -1289,6 +5544,7 @@ public class /*++[[TABLE]]++*//*--*/TableFacadeTemplate/*--*/
 	 * @return {@link DeleteStatementIntermediate}
 	 */
 	public final DeleteStatementIntermediate<DMSWhereAssist> DELETE() {
+		invalidateCaches$();
 		return dmsBehavior().DELETE();
 	}
 